@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.TypeInfo;
+
+/**
+ * Attribute of a compact, read-only DOM.
+ *
+ * <p>Just like in any DOM, the attribute has no parent and no siblings,
+ * its element is available through {@link #getOwnerElement()}.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class CompactAttr extends CompactNode implements Attr {
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactAttr(final CompactDom storage, final int index) {
+        super(storage, index);
+    }
+
+    @Override
+    public Node getParentNode() {
+        return null;
+    }
+
+    @Override
+    public Node getPreviousSibling() {
+        return null;
+    }
+
+    @Override
+    public Node getNextSibling() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return this.getNodeName();
+    }
+
+    @Override
+    public boolean getSpecified() {
+        return true;
+    }
+
+    @Override
+    public String getValue() {
+        return this.getNodeValue();
+    }
+
+    @Override
+    public void setValue(final String value) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public Element getOwnerElement() {
+        return (Element) this.dom.node(this.dom.parent(this.idx));
+    }
+
+    @Override
+    public TypeInfo getSchemaTypeInfo() {
+        return CompactNode.NO_TYPE;
+    }
+
+    @Override
+    public boolean isId() {
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.w3c.dom.Comment;
+
+/**
+ * Comment of a compact, read-only DOM.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class CompactComment extends CompactData implements Comment {
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactComment(final CompactDom storage, final int index) {
+        super(storage, index);
+    }
+
+    @Override
+    public String getNodeName() {
+        return "#comment";
+    }
+}
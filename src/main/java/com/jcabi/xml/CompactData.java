@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.w3c.dom.CharacterData;
+import org.w3c.dom.DOMException;
+
+/**
+ * Character data of a compact, read-only DOM.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+abstract class CompactData extends CompactNode implements CharacterData {
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactData(final CompactDom storage, final int index) {
+        super(storage, index);
+    }
+
+    @Override
+    public final String getData() {
+        return this.getNodeValue();
+    }
+
+    @Override
+    public final void setData(final String data) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final int getLength() {
+        return this.getData().length();
+    }
+
+    @Override
+    public final String substringData(final int offset, final int count) {
+        final String data = this.getData();
+        if (offset < 0 || count < 0 || offset > data.length()) {
+            throw new DOMException(
+                DOMException.INDEX_SIZE_ERR,
+                String.format(
+                    "Can't take %d char(s) at %d from %d", count, offset,
+                    data.length()
+                )
+            );
+        }
+        return data.substring(offset, Math.min(data.length(), offset + count));
+    }
+
+    @Override
+    public final void appendData(final String arg) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final void insertData(final int offset, final String arg) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final void deleteData(final int offset, final int count) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final void replaceData(final int offset, final int count,
+        final String arg) {
+        throw CompactNode.readOnly();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import javax.xml.parsers.DocumentBuilder;
+import org.w3c.dom.Attr;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.Comment;
+import org.w3c.dom.DOMConfiguration;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentFragment;
+import org.w3c.dom.DocumentType;
+import org.w3c.dom.Element;
+import org.w3c.dom.EntityReference;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.ProcessingInstruction;
+import org.w3c.dom.Text;
+
+/**
+ * Document of a compact, read-only DOM.
+ *
+ * <p>Since the document is read-only, it can't create new nodes,
+ * all {@code create*()} methods throw {@link org.w3c.dom.DOMException}.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class CompactDocument extends CompactNode implements Document {
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactDocument(final CompactDom storage, final int index) {
+        super(storage, index);
+    }
+
+    @Override
+    public String getNodeName() {
+        return "#document";
+    }
+
+    @Override
+    public Document getOwnerDocument() {
+        return null;
+    }
+
+    @Override
+    public String getTextContent() {
+        return null;
+    }
+
+    /**
+     * Clone the document.
+     *
+     * <p>The clone is a regular, mutable DOM document.
+     *
+     * @param deep Clone the children too?
+     * @return The clone
+     */
+    @Override
+    public Node cloneNode(final boolean deep) {
+        final DocumentBuilder builder = BuilderPool.DEFAULT.acquire();
+        final Document doc;
+        try {
+            doc = builder.newDocument();
+        } finally {
+            BuilderPool.DEFAULT.release(builder);
+        }
+        if (deep) {
+            for (Node child = this.getFirstChild(); child != null;
+                child = child.getNextSibling()) {
+                doc.appendChild(doc.importNode(child, true));
+            }
+        }
+        return doc;
+    }
+
+    @Override
+    public DocumentType getDoctype() {
+        return null;
+    }
+
+    @Override
+    public DOMImplementation getImplementation() {
+        final DocumentBuilder builder = BuilderPool.DEFAULT.acquire();
+        try {
+            return builder.getDOMImplementation();
+        } finally {
+            BuilderPool.DEFAULT.release(builder);
+        }
+    }
+
+    @Override
+    public Element getDocumentElement() {
+        int child = this.dom.first(this.idx);
+        while (child != CompactDom.NONE
+            && this.dom.type(child) != Node.ELEMENT_NODE) {
+            child = this.dom.next(child);
+        }
+        return (Element) this.dom.node(child);
+    }
+
+    @Override
+    public Element createElement(final String name) {
+        throw CompactNode.unsupported("createElement()");
+    }
+
+    @Override
+    public DocumentFragment createDocumentFragment() {
+        throw CompactNode.unsupported("createDocumentFragment()");
+    }
+
+    @Override
+    public Text createTextNode(final String data) {
+        throw CompactNode.unsupported("createTextNode()");
+    }
+
+    @Override
+    public Comment createComment(final String data) {
+        throw CompactNode.unsupported("createComment()");
+    }
+
+    @Override
+    public CDATASection createCDATASection(final String data) {
+        throw CompactNode.unsupported("createCDATASection()");
+    }
+
+    @Override
+    public ProcessingInstruction createProcessingInstruction(
+        final String target, final String data) {
+        throw CompactNode.unsupported("createProcessingInstruction()");
+    }
+
+    @Override
+    public Attr createAttribute(final String name) {
+        throw CompactNode.unsupported("createAttribute()");
+    }
+
+    @Override
+    public EntityReference createEntityReference(final String name) {
+        throw CompactNode.unsupported("createEntityReference()");
+    }
+
+    @Override
+    public NodeList getElementsByTagName(final String name) {
+        return this.descendants(null, name);
+    }
+
+    @Override
+    public Node importNode(final Node node, final boolean deep) {
+        throw CompactNode.unsupported("importNode()");
+    }
+
+    @Override
+    public Element createElementNS(final String uri, final String name) {
+        throw CompactNode.unsupported("createElementNS()");
+    }
+
+    @Override
+    public Attr createAttributeNS(final String uri, final String name) {
+        throw CompactNode.unsupported("createAttributeNS()");
+    }
+
+    @Override
+    public NodeList getElementsByTagNameNS(final String uri,
+        final String name) {
+        return this.descendants(CompactElement.uri(uri), name);
+    }
+
+    @Override
+    public Element getElementById(final String id) {
+        return null;
+    }
+
+    @Override
+    public String getInputEncoding() {
+        return null;
+    }
+
+    @Override
+    public String getXmlEncoding() {
+        return null;
+    }
+
+    @Override
+    public boolean getXmlStandalone() {
+        return false;
+    }
+
+    @Override
+    public void setXmlStandalone(final boolean standalone) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public String getXmlVersion() {
+        return "1.0";
+    }
+
+    @Override
+    public void setXmlVersion(final String version) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public boolean getStrictErrorChecking() {
+        return true;
+    }
+
+    @Override
+    public void setStrictErrorChecking(final boolean strict) {
+        // errors are always checked
+    }
+
+    @Override
+    public String getDocumentURI() {
+        return null;
+    }
+
+    @Override
+    public void setDocumentURI(final String uri) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public Node adoptNode(final Node node) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public DOMConfiguration getDomConfig() {
+        throw CompactNode.unsupported("getDomConfig()");
+    }
+
+    @Override
+    public void normalizeDocument() {
+        // the document is always normalized
+    }
+
+    @Override
+    public Node renameNode(final Node node, final String uri,
+        final String name) {
+        throw CompactNode.readOnly();
+    }
+}
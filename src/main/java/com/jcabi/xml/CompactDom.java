@@ -0,0 +1,639 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.w3c.dom.Node;
+
+/**
+ * Storage of a compact, read-only DOM.
+ *
+ * <p>Nodes are not objects here, they are indexes in a few parallel
+ * arrays: type, parent, first and last child, next and previous sibling,
+ * first attribute, name, local name, namespace and value. Names and
+ * namespace URIs are numbers in a {@link NamePool}, shared by all
+ * documents, or, if the pool is full, in a small table of strings
+ * of this document. The document
+ * node is always the first one, with index zero, and all other nodes
+ * follow it in document order, attributes right after their elements.
+ * That's why the document order of two nodes is the order of their
+ * indexes.
+ *
+ * <p>DOM {@link Node} objects are made on demand and referenced weakly,
+ * except for the document node. Thus, the same object is returned for
+ * the same node while someone holds it, since XPath engines compare
+ * nodes by identity, but a traversal doesn't leave an object per node
+ * behind. Objects of the same node are equal and
+ * {@link Node#isSameNode(Node)}.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ * @checkstyle ParameterNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class CompactDom {
+
+    /**
+     * No node.
+     */
+    static final int NONE = -1;
+
+    /**
+     * Types of nodes.
+     */
+    private final byte[] types;
+
+    /**
+     * Parents, owner elements for attributes.
+     */
+    private final int[] parents;
+
+    /**
+     * First children.
+     */
+    private final int[] firsts;
+
+    /**
+     * Last children.
+     */
+    private final int[] lasts;
+
+    /**
+     * Next siblings, next attributes for attributes.
+     */
+    private final int[] nexts;
+
+    /**
+     * Previous siblings, previous attributes for attributes.
+     */
+    private final int[] prevs;
+
+    /**
+     * First attributes.
+     */
+    private final int[] attrs;
+
+    /**
+     * Qualified names, as indexes in the table of strings.
+     */
+    private final int[] names;
+
+    /**
+     * Local names, as indexes in the table of strings.
+     */
+    private final int[] locals;
+
+    /**
+     * Namespace URIs, as indexes in the table of strings.
+     */
+    private final int[] uris;
+
+    /**
+     * Values, NULL for elements and the document.
+     */
+    private final String[] values;
+
+    /**
+     * Pool of names.
+     */
+    private final NamePool pool;
+
+    /**
+     * Names, which didn't fit into the pool.
+     */
+    private final String[] strings;
+
+    /**
+     * The document node, the only one which is kept strongly.
+     */
+    private final Node root;
+
+    /**
+     * Other DOM nodes, made on demand and referenced weakly.
+     */
+    private final AtomicReferenceArray<CompactDom.Slot> slots;
+
+    /**
+     * Slots of nodes, which were collected.
+     */
+    private final ReferenceQueue<Node> stale;
+
+    /**
+     * Ctor.
+     * @param bld The builder
+     */
+    private CompactDom(final CompactDom.Builder bld) {
+        final int size = bld.size;
+        this.types = Arrays.copyOf(bld.types, size);
+        this.parents = Arrays.copyOf(bld.parents, size);
+        this.firsts = Arrays.copyOf(bld.firsts, size);
+        this.lasts = Arrays.copyOf(bld.lasts, size);
+        this.nexts = Arrays.copyOf(bld.nexts, size);
+        this.prevs = Arrays.copyOf(bld.prevs, size);
+        this.attrs = Arrays.copyOf(bld.attrs, size);
+        this.names = Arrays.copyOf(bld.names, size);
+        this.locals = Arrays.copyOf(bld.locals, size);
+        this.uris = Arrays.copyOf(bld.uris, size);
+        this.values = Arrays.copyOf(bld.values, size);
+        this.pool = bld.pool;
+        this.strings = bld.table.toArray(new String[0]);
+        this.root = this.create(0);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.stale = new ReferenceQueue<>();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d node(s), %d own name(s)", this.types.length, this.strings.length
+        );
+    }
+
+    /**
+     * Total number of nodes.
+     * @return How many nodes
+     */
+    int size() {
+        return this.types.length;
+    }
+
+    /**
+     * DOM node.
+     *
+     * <p>The same object is returned for the same node, as long as it
+     * is referenced by anyone, since XPath engines compare nodes by
+     * identity. When it is not referenced anymore, it is collected,
+     * and a new one is made next time.
+     *
+     * @param idx Index of the node
+     * @return The node, NULL if the index is {@link #NONE}
+     */
+    Node node(final int idx) {
+        Node node = null;
+        if (idx == 0) {
+            node = this.root;
+        } else if (idx != CompactDom.NONE) {
+            this.purge();
+            CompactDom.Slot slot = this.slots.get(idx);
+            if (slot != null) {
+                node = slot.get();
+            }
+            while (node == null) {
+                final Node made = this.create(idx);
+                if (this.slots.compareAndSet(
+                    idx, slot, new CompactDom.Slot(made, idx, this.stale)
+                )) {
+                    node = made;
+                } else {
+                    slot = this.slots.get(idx);
+                    if (slot != null) {
+                        node = slot.get();
+                    }
+                }
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Type of the node.
+     * @param idx Index of the node
+     * @return Type, like {@link Node#ELEMENT_NODE}
+     */
+    short type(final int idx) {
+        return this.types[idx];
+    }
+
+    /**
+     * Parent of the node.
+     * @param idx Index of the node
+     * @return Index of the parent or {@link #NONE}
+     */
+    int parent(final int idx) {
+        return this.parents[idx];
+    }
+
+    /**
+     * First child of the node.
+     * @param idx Index of the node
+     * @return Index of the child or {@link #NONE}
+     */
+    int first(final int idx) {
+        return this.firsts[idx];
+    }
+
+    /**
+     * Last child of the node.
+     * @param idx Index of the node
+     * @return Index of the child or {@link #NONE}
+     */
+    int last(final int idx) {
+        return this.lasts[idx];
+    }
+
+    /**
+     * Next sibling of the node.
+     * @param idx Index of the node
+     * @return Index of the sibling or {@link #NONE}
+     */
+    int next(final int idx) {
+        return this.nexts[idx];
+    }
+
+    /**
+     * Previous sibling of the node.
+     * @param idx Index of the node
+     * @return Index of the sibling or {@link #NONE}
+     */
+    int previous(final int idx) {
+        return this.prevs[idx];
+    }
+
+    /**
+     * First attribute of the element.
+     * @param idx Index of the node
+     * @return Index of the attribute or {@link #NONE}
+     */
+    int attribute(final int idx) {
+        return this.attrs[idx];
+    }
+
+    /**
+     * Qualified name of the node.
+     * @param idx Index of the node
+     * @return The name, NULL for nodes without names
+     */
+    String name(final int idx) {
+        return this.string(this.names[idx]);
+    }
+
+    /**
+     * Local name of the node.
+     * @param idx Index of the node
+     * @return The name, NULL for nodes without names
+     */
+    String local(final int idx) {
+        return this.string(this.locals[idx]);
+    }
+
+    /**
+     * Namespace URI of the node.
+     * @param idx Index of the node
+     * @return The URI, NULL if none
+     */
+    String namespace(final int idx) {
+        return this.string(this.uris[idx]);
+    }
+
+    /**
+     * Value of the node.
+     * @param idx Index of the node
+     * @return The value, NULL for elements and the document
+     */
+    String value(final int idx) {
+        return this.values[idx];
+    }
+
+    /**
+     * String from the pool or from the table.
+     * @param pos Number in the pool, or position in the table,
+     *  encoded by {@link Builder#position(String)}
+     * @return The string, NULL if the position is {@link #NONE}
+     */
+    private String string(final int pos) {
+        final String str;
+        if (pos >= 0) {
+            str = this.pool.name(pos);
+        } else if (pos == CompactDom.NONE) {
+            str = null;
+        } else {
+            str = this.strings[CompactDom.NONE - 1 - pos];
+        }
+        return str;
+    }
+
+    /**
+     * Forget slots of nodes, which were collected.
+     */
+    private void purge() {
+        for (Reference<? extends Node> ref = this.stale.poll(); ref != null;
+            ref = this.stale.poll()) {
+            final CompactDom.Slot slot = (CompactDom.Slot) ref;
+            this.slots.compareAndSet(slot.index, slot, null);
+        }
+    }
+
+    /**
+     * Create DOM node.
+     * @param idx Index of the node
+     * @return The node
+     */
+    private Node create(final int idx) {
+        final Node node;
+        switch (this.types[idx]) {
+            case Node.DOCUMENT_NODE:
+                node = new CompactDocument(this, idx);
+                break;
+            case Node.ELEMENT_NODE:
+                node = new CompactElement(this, idx);
+                break;
+            case Node.ATTRIBUTE_NODE:
+                node = new CompactAttr(this, idx);
+                break;
+            case Node.TEXT_NODE:
+                node = new CompactText(this, idx);
+                break;
+            case Node.CDATA_SECTION_NODE:
+                node = new CompactCdata(this, idx);
+                break;
+            case Node.COMMENT_NODE:
+                node = new CompactComment(this, idx);
+                break;
+            case Node.PROCESSING_INSTRUCTION_NODE:
+                node = new CompactPi(this, idx);
+                break;
+            default:
+                throw new IllegalStateException(
+                    String.format(
+                        "Unknown type %d of node #%d", this.types[idx], idx
+                    )
+                );
+        }
+        return node;
+    }
+
+    /**
+     * Weak reference to a DOM node, which knows its index.
+     *
+     * @since 0.36.0
+     */
+    private static final class Slot extends WeakReference<Node> {
+
+        /**
+         * Index of the node.
+         */
+        private final int index;
+
+        /**
+         * Ctor.
+         * @param node The node
+         * @param idx Index of the node
+         * @param queue Where to put the slot, when the node is collected
+         */
+        Slot(final Node node, final int idx, final ReferenceQueue<Node> queue) {
+            super(node, queue);
+            this.index = idx;
+        }
+    }
+
+    /**
+     * Builder of the storage, which appends nodes in document order.
+     *
+     * <p>The class is NOT thread-safe.
+     *
+     * @since 0.36.0
+     */
+    static final class Builder {
+
+        /**
+         * How many nodes are there.
+         */
+        private int size;
+
+        /**
+         * Types.
+         */
+        private byte[] types;
+
+        /**
+         * Parents.
+         */
+        private int[] parents;
+
+        /**
+         * First children.
+         */
+        private int[] firsts;
+
+        /**
+         * Last children.
+         */
+        private int[] lasts;
+
+        /**
+         * Next siblings.
+         */
+        private int[] nexts;
+
+        /**
+         * Previous siblings.
+         */
+        private int[] prevs;
+
+        /**
+         * First attributes.
+         */
+        private int[] attrs;
+
+        /**
+         * Qualified names.
+         */
+        private int[] names;
+
+        /**
+         * Local names.
+         */
+        private int[] locals;
+
+        /**
+         * Namespaces.
+         */
+        private int[] uris;
+
+        /**
+         * Values.
+         */
+        private String[] values;
+
+        /**
+         * Pool of names.
+         */
+        private final NamePool pool;
+
+        /**
+         * Names, which didn't fit into the pool.
+         */
+        private final List<String> table;
+
+        /**
+         * Positions of strings in the table.
+         */
+        private final Map<String, Integer> positions;
+
+        /**
+         * Ctor.
+         * @param names Pool of names
+         */
+        Builder(final NamePool names) {
+            this.pool = names;
+            this.table = new ArrayList<>(0);
+            this.positions = new HashMap<>(0);
+            this.grow(64);
+            this.add(Node.DOCUMENT_NODE, CompactDom.NONE, null, null, null, null);
+        }
+
+        /**
+         * Append a node.
+         * @param type Type of node
+         * @param parent Parent, or owner element for attributes
+         * @param name Qualified name or NULL
+         * @param local Local name or NULL
+         * @param uri Namespace URI or NULL
+         * @param value Value or NULL
+         * @return Index of the node
+         */
+        int add(final short type, final int parent, final String name,
+            final String local, final String uri, final String value) {
+            return this.add(
+                type, parent, this.position(name), this.position(local),
+                this.position(uri), value
+            );
+        }
+
+        /**
+         * Append a node, with names already encoded
+         * by {@link #position(String)}.
+         * @param type Type of node
+         * @param parent Parent, or owner element for attributes
+         * @param name Qualified name
+         * @param local Local name
+         * @param uri Namespace URI
+         * @param value Value or NULL
+         * @return Index of the node
+         */
+        int add(final short type, final int parent, final int name,
+            final int local, final int uri, final String value) {
+            if (this.size == this.types.length) {
+                this.grow(this.size << 1);
+            }
+            final int idx = this.size;
+            ++this.size;
+            this.types[idx] = (byte) type;
+            this.parents[idx] = parent;
+            this.firsts[idx] = CompactDom.NONE;
+            this.lasts[idx] = CompactDom.NONE;
+            this.nexts[idx] = CompactDom.NONE;
+            this.prevs[idx] = CompactDom.NONE;
+            this.attrs[idx] = CompactDom.NONE;
+            this.names[idx] = name;
+            this.locals[idx] = local;
+            this.uris[idx] = uri;
+            this.values[idx] = value;
+            if (type == Node.ATTRIBUTE_NODE) {
+                if (this.attrs[parent] == CompactDom.NONE) {
+                    this.attrs[parent] = idx;
+                } else {
+                    this.nexts[idx - 1] = idx;
+                    this.prevs[idx] = idx - 1;
+                }
+            } else if (parent != CompactDom.NONE) {
+                final int last = this.lasts[parent];
+                if (last == CompactDom.NONE) {
+                    this.firsts[parent] = idx;
+                } else {
+                    this.nexts[last] = idx;
+                    this.prevs[idx] = last;
+                }
+                this.lasts[parent] = idx;
+            }
+            return idx;
+        }
+
+        /**
+         * Parent of the node added.
+         * @param idx Index of the node
+         * @return Index of the parent or {@link CompactDom#NONE}
+         */
+        int parent(final int idx) {
+            return this.parents[idx];
+        }
+
+        /**
+         * Build it.
+         * @return The storage
+         */
+        CompactDom build() {
+            return new CompactDom(this);
+        }
+
+        /**
+         * Number of the string in the pool, or its position in the table,
+         * if the pool is full.
+         *
+         * <p>Numbers in the pool are zero or positive, positions in the
+         * table are encoded as negative numbers below {@link CompactDom#NONE}.
+         *
+         * @param str The string or NULL
+         * @return Encoded position or {@link CompactDom#NONE}
+         */
+        int position(final String str) {
+            int pos = CompactDom.NONE;
+            if (str != null) {
+                pos = this.pool.id(str);
+                if (pos == CompactDom.NONE) {
+                    pos = CompactDom.NONE - 1 - this.positions.computeIfAbsent(
+                        str,
+                        key -> {
+                            this.table.add(key);
+                            return this.table.size() - 1;
+                        }
+                    );
+                }
+            }
+            return pos;
+        }
+
+        /**
+         * Make all arrays bigger.
+         * @param capacity New capacity
+         */
+        private void grow(final int capacity) {
+            if (this.types == null) {
+                this.types = new byte[capacity];
+                this.parents = new int[capacity];
+                this.firsts = new int[capacity];
+                this.lasts = new int[capacity];
+                this.nexts = new int[capacity];
+                this.prevs = new int[capacity];
+                this.attrs = new int[capacity];
+                this.names = new int[capacity];
+                this.locals = new int[capacity];
+                this.uris = new int[capacity];
+                this.values = new String[capacity];
+            } else {
+                this.types = Arrays.copyOf(this.types, capacity);
+                this.parents = Arrays.copyOf(this.parents, capacity);
+                this.firsts = Arrays.copyOf(this.firsts, capacity);
+                this.lasts = Arrays.copyOf(this.lasts, capacity);
+                this.nexts = Arrays.copyOf(this.nexts, capacity);
+                this.prevs = Arrays.copyOf(this.prevs, capacity);
+                this.attrs = Arrays.copyOf(this.attrs, capacity);
+                this.names = Arrays.copyOf(this.names, capacity);
+                this.locals = Arrays.copyOf(this.locals, capacity);
+                this.uris = Arrays.copyOf(this.uris, capacity);
+                this.values = Arrays.copyOf(this.values, capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.TypeInfo;
+
+/**
+ * Element of a compact, read-only DOM.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class CompactElement extends CompactNode implements Element {
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactElement(final CompactDom storage, final int index) {
+        super(storage, index);
+    }
+
+    @Override
+    public NamedNodeMap getAttributes() {
+        return new CompactElement.Attributes(this.dom, this.idx);
+    }
+
+    @Override
+    public String getTextContent() {
+        return this.text();
+    }
+
+    @Override
+    public String getTagName() {
+        return this.getNodeName();
+    }
+
+    @Override
+    public String getAttribute(final String name) {
+        return CompactElement.value(this.getAttributeNode(name));
+    }
+
+    @Override
+    public void setAttribute(final String name, final String value) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public void removeAttribute(final String name) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public Attr getAttributeNode(final String name) {
+        return (Attr) this.dom.node(this.find(null, name));
+    }
+
+    @Override
+    public Attr setAttributeNode(final Attr attr) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public Attr removeAttributeNode(final Attr attr) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public NodeList getElementsByTagName(final String name) {
+        return this.descendants(null, name);
+    }
+
+    @Override
+    public String getAttributeNS(final String uri, final String name) {
+        return CompactElement.value(this.getAttributeNodeNS(uri, name));
+    }
+
+    @Override
+    public void setAttributeNS(final String uri, final String name,
+        final String value) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public void removeAttributeNS(final String uri, final String name) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public Attr getAttributeNodeNS(final String uri, final String name) {
+        return (Attr) this.dom.node(this.find(CompactElement.uri(uri), name));
+    }
+
+    @Override
+    public Attr setAttributeNodeNS(final Attr attr) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public NodeList getElementsByTagNameNS(final String uri,
+        final String name) {
+        return this.descendants(CompactElement.uri(uri), name);
+    }
+
+    @Override
+    public boolean hasAttribute(final String name) {
+        return this.find(null, name) != CompactDom.NONE;
+    }
+
+    @Override
+    public boolean hasAttributeNS(final String uri, final String name) {
+        return this.find(CompactElement.uri(uri), name) != CompactDom.NONE;
+    }
+
+    @Override
+    public TypeInfo getSchemaTypeInfo() {
+        return CompactNode.NO_TYPE;
+    }
+
+    @Override
+    public void setIdAttribute(final String name, final boolean isid) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public void setIdAttributeNS(final String uri, final String name,
+        final boolean isid) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public void setIdAttributeNode(final Attr attr, final boolean isid) {
+        throw CompactNode.readOnly();
+    }
+
+    /**
+     * Namespace URI for lookups.
+     * @param uri The URI, NULL for no namespace
+     * @return The URI, empty for no namespace
+     */
+    static String uri(final String uri) {
+        final String result;
+        if (uri == null) {
+            result = "";
+        } else {
+            result = uri;
+        }
+        return result;
+    }
+
+    /**
+     * Find an attribute.
+     * @param uri Namespace URI, NULL to compare qualified names
+     * @param name The name
+     * @return Index of the attribute or {@link CompactDom#NONE}
+     */
+    private int find(final String uri, final String name) {
+        int found = CompactDom.NONE;
+        for (int att = this.dom.attribute(this.idx); att != CompactDom.NONE;
+            att = this.dom.next(att)) {
+            if (CompactNode.named(this.dom, att, uri, name)) {
+                found = att;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Value of the attribute.
+     * @param attr The attribute or NULL
+     * @return The value, empty if there is no attribute
+     */
+    private static String value(final Attr attr) {
+        final String value;
+        if (attr == null) {
+            value = "";
+        } else {
+            value = attr.getValue();
+        }
+        return value;
+    }
+
+    /**
+     * Attributes of the element.
+     *
+     * @since 0.36.0
+     */
+    private static final class Attributes implements NamedNodeMap {
+
+        /**
+         * The storage.
+         */
+        private final CompactDom dom;
+
+        /**
+         * Index of the element.
+         */
+        private final int owner;
+
+        /**
+         * Ctor.
+         * @param storage The storage
+         * @param element Index of the element
+         */
+        Attributes(final CompactDom storage, final int element) {
+            this.dom = storage;
+            this.owner = element;
+        }
+
+        @Override
+        public Node getNamedItem(final String name) {
+            return ((Element) this.dom.node(this.owner)).getAttributeNode(name);
+        }
+
+        @Override
+        public Node setNamedItem(final Node node) {
+            throw CompactNode.readOnly();
+        }
+
+        @Override
+        public Node removeNamedItem(final String name) {
+            throw CompactNode.readOnly();
+        }
+
+        @Override
+        public Node item(final int index) {
+            int att = CompactDom.NONE;
+            if (index >= 0) {
+                att = this.dom.attribute(this.owner);
+                for (int pos = 0; pos < index && att != CompactDom.NONE; ++pos) {
+                    att = this.dom.next(att);
+                }
+            }
+            return this.dom.node(att);
+        }
+
+        @Override
+        public int getLength() {
+            int total = 0;
+            for (int att = this.dom.attribute(this.owner);
+                att != CompactDom.NONE; att = this.dom.next(att)) {
+                ++total;
+            }
+            return total;
+        }
+
+        @Override
+        public Node getNamedItemNS(final String uri, final String name) {
+            return ((Element) this.dom.node(this.owner))
+                .getAttributeNodeNS(uri, name);
+        }
+
+        @Override
+        public Node setNamedItemNS(final Node node) {
+            throw CompactNode.readOnly();
+        }
+
+        @Override
+        public Node removeNamedItemNS(final String uri, final String name) {
+            throw CompactNode.readOnly();
+        }
+    }
+}
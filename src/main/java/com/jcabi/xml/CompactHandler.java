@@ -0,0 +1,221 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.ext.DefaultHandler2;
+
+/**
+ * SAX handler, which builds a compact, read-only DOM.
+ *
+ * <p>The parser must be namespace-aware. Namespace declarations become
+ * attributes, just like in a regular DOM. Adjacent characters are joined
+ * into one text node. CDATA sections, comments and processing
+ * instructions are kept, DTD is not.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class CompactHandler extends DefaultHandler2 {
+
+    /**
+     * The builder.
+     */
+    private final CompactDom.Builder builder;
+
+    /**
+     * Namespaces declared for the next element, prefixes and URIs.
+     */
+    private final List<String> declared;
+
+    /**
+     * Characters not yet added.
+     */
+    private final StringBuilder text;
+
+    /**
+     * Index of the current node.
+     */
+    private int current;
+
+    /**
+     * Whether we are inside a CDATA section.
+     */
+    private boolean cdata;
+
+    /**
+     * Whether we are inside DTD.
+     */
+    private boolean dtd;
+
+    /**
+     * Ctor.
+     * @param names Pool of names
+     */
+    CompactHandler(final NamePool names) {
+        super();
+        this.builder = new CompactDom.Builder(names);
+        this.declared = new ArrayList<>(0);
+        this.text = new StringBuilder(0);
+    }
+
+    /**
+     * The document built.
+     * @return The document
+     */
+    Document document() {
+        return (Document) this.builder.build().node(0);
+    }
+
+    @Override
+    public void startPrefixMapping(final String prefix, final String uri) {
+        this.declared.add(prefix);
+        this.declared.add(uri);
+    }
+
+    @Override
+    public void startElement(final String uri, final String local,
+        final String name, final Attributes attrs) {
+        this.flush();
+        this.current = this.builder.add(
+            Node.ELEMENT_NODE, this.current, name, local,
+            CompactHandler.namespace(uri), null
+        );
+        for (int pos = 0; pos < this.declared.size(); pos += 2) {
+            final String prefix = this.declared.get(pos);
+            if (prefix.isEmpty()) {
+                this.builder.add(
+                    Node.ATTRIBUTE_NODE, this.current,
+                    XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE,
+                    XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                    this.declared.get(pos + 1)
+                );
+            } else {
+                this.builder.add(
+                    Node.ATTRIBUTE_NODE, this.current,
+                    String.format("%s:%s", XMLConstants.XMLNS_ATTRIBUTE, prefix),
+                    prefix, XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                    this.declared.get(pos + 1)
+                );
+            }
+        }
+        this.declared.clear();
+        for (int pos = 0; pos < attrs.getLength(); ++pos) {
+            this.builder.add(
+                Node.ATTRIBUTE_NODE, this.current, attrs.getQName(pos),
+                attrs.getLocalName(pos),
+                CompactHandler.namespace(attrs.getURI(pos)),
+                attrs.getValue(pos)
+            );
+        }
+    }
+
+    @Override
+    public void endElement(final String uri, final String local,
+        final String name) {
+        this.flush();
+        this.current = this.builder.parent(this.current);
+    }
+
+    @Override
+    public void characters(final char[] chars, final int start,
+        final int length) {
+        this.text.append(chars, start, length);
+    }
+
+    @Override
+    public void ignorableWhitespace(final char[] chars, final int start,
+        final int length) {
+        this.text.append(chars, start, length);
+    }
+
+    @Override
+    public void processingInstruction(final String target,
+        final String data) {
+        this.flush();
+        this.builder.add(
+            Node.PROCESSING_INSTRUCTION_NODE, this.current, target, null,
+            null, data
+        );
+    }
+
+    @Override
+    public void comment(final char[] chars, final int start,
+        final int length) {
+        if (!this.dtd) {
+            this.flush();
+            this.builder.add(
+                Node.COMMENT_NODE, this.current, null, null, null,
+                new String(chars, start, length)
+            );
+        }
+    }
+
+    @Override
+    public void startDTD(final String name, final String pid,
+        final String sid) {
+        this.dtd = true;
+    }
+
+    @Override
+    public void endDTD() {
+        this.dtd = false;
+    }
+
+    @Override
+    public void startCDATA() {
+        this.flush();
+        this.cdata = true;
+    }
+
+    @Override
+    public void endCDATA() {
+        this.builder.add(
+            Node.CDATA_SECTION_NODE, this.current, null, null, null,
+            this.text.toString()
+        );
+        this.text.setLength(0);
+        this.cdata = false;
+    }
+
+    @Override
+    public void endDocument() {
+        this.flush();
+    }
+
+    /**
+     * Add the text collected, if any.
+     */
+    private void flush() {
+        if (this.text.length() > 0 && !this.cdata) {
+            this.builder.add(
+                Node.TEXT_NODE, this.current, null, null, null,
+                this.text.toString()
+            );
+            this.text.setLength(0);
+        }
+    }
+
+    /**
+     * Namespace URI for the storage.
+     * @param uri The URI from SAX, empty if none
+     * @return The URI or NULL
+     */
+    private static String namespace(final String uri) {
+        final String result;
+        if (uri == null || uri.isEmpty()) {
+            result = null;
+        } else {
+            result = uri;
+        }
+        return result;
+    }
+}
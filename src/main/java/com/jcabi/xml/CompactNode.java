@@ -0,0 +1,678 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.Arrays;
+import java.util.Objects;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.TypeInfo;
+import org.w3c.dom.UserDataHandler;
+
+/**
+ * Node of a compact, read-only DOM.
+ *
+ * <p>The node is just an index in {@link CompactDom}, all its properties
+ * are taken from there. It is a flyweight: many objects may stand for
+ * the same node, and they are all equal. Any attempt to modify the node leads
+ * to {@link DOMException} with {@link DOMException#NO_MODIFICATION_ALLOWED_ERR}
+ * code.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+abstract class CompactNode implements Node {
+
+    /**
+     * Type information, which is never known.
+     */
+    static final TypeInfo NO_TYPE = new TypeInfo() {
+        @Override
+        public String getTypeName() {
+            return null;
+        }
+
+        @Override
+        public String getTypeNamespace() {
+            return null;
+        }
+
+        @Override
+        public boolean isDerivedFrom(final String namespace,
+            final String name, final int method) {
+            return false;
+        }
+    };
+
+    /**
+     * The storage.
+     */
+    protected final CompactDom dom;
+
+    /**
+     * Index of the node in the storage.
+     */
+    protected final int idx;
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactNode(final CompactDom storage, final int index) {
+        this.dom = storage;
+        this.idx = index;
+    }
+
+    @Override
+    public final boolean equals(final Object other) {
+        return this == other || other instanceof CompactNode
+            && ((CompactNode) other).dom == this.dom
+            && ((CompactNode) other).idx == this.idx;
+    }
+
+    @Override
+    public final int hashCode() {
+        return 31 * System.identityHashCode(this.dom) + this.idx;
+    }
+
+    @Override
+    public final String toString() {
+        return String.format("[%s: %s]", this.getNodeName(), this.getNodeValue());
+    }
+
+    @Override
+    public String getNodeName() {
+        return this.dom.name(this.idx);
+    }
+
+    @Override
+    public String getNodeValue() {
+        return this.dom.value(this.idx);
+    }
+
+    @Override
+    public final void setNodeValue(final String value) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final short getNodeType() {
+        return this.dom.type(this.idx);
+    }
+
+    @Override
+    public Node getParentNode() {
+        return this.dom.node(this.dom.parent(this.idx));
+    }
+
+    @Override
+    public final NodeList getChildNodes() {
+        return new CompactNode.Children(this.dom, this.idx);
+    }
+
+    @Override
+    public final Node getFirstChild() {
+        return this.dom.node(this.dom.first(this.idx));
+    }
+
+    @Override
+    public final Node getLastChild() {
+        return this.dom.node(this.dom.last(this.idx));
+    }
+
+    @Override
+    public Node getPreviousSibling() {
+        return this.dom.node(this.dom.previous(this.idx));
+    }
+
+    @Override
+    public Node getNextSibling() {
+        return this.dom.node(this.dom.next(this.idx));
+    }
+
+    @Override
+    public NamedNodeMap getAttributes() {
+        return null;
+    }
+
+    @Override
+    public Document getOwnerDocument() {
+        return (Document) this.dom.node(0);
+    }
+
+    @Override
+    public final Node insertBefore(final Node child, final Node ref) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final Node replaceChild(final Node child, final Node old) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final Node removeChild(final Node old) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final Node appendChild(final Node child) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final boolean hasChildNodes() {
+        return this.dom.first(this.idx) != CompactDom.NONE;
+    }
+
+    /**
+     * Clone the node.
+     *
+     * <p>The clone is a regular, mutable DOM node, in a new document.
+     *
+     * @param deep Clone the children too?
+     * @return The clone
+     */
+    @Override
+    public Node cloneNode(final boolean deep) {
+        final DocumentBuilder builder = BuilderPool.DEFAULT.acquire();
+        final Document doc;
+        try {
+            doc = builder.newDocument();
+        } finally {
+            BuilderPool.DEFAULT.release(builder);
+        }
+        return doc.importNode(this, deep);
+    }
+
+    @Override
+    public final void normalize() {
+        // adjacent text nodes are joined while building, nothing to do
+    }
+
+    @Override
+    public final boolean isSupported(final String feature,
+        final String version) {
+        return false;
+    }
+
+    @Override
+    public final String getNamespaceURI() {
+        return this.dom.namespace(this.idx);
+    }
+
+    @Override
+    public final String getPrefix() {
+        String prefix = null;
+        final String local = this.dom.local(this.idx);
+        final String name = this.dom.name(this.idx);
+        if (local != null && name.length() > local.length()) {
+            prefix = name.substring(0, name.length() - local.length() - 1);
+        }
+        return prefix;
+    }
+
+    @Override
+    public final void setPrefix(final String prefix) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final String getLocalName() {
+        return this.dom.local(this.idx);
+    }
+
+    @Override
+    public final boolean hasAttributes() {
+        return this.dom.attribute(this.idx) != CompactDom.NONE;
+    }
+
+    @Override
+    public final String getBaseURI() {
+        return null;
+    }
+
+    @Override
+    public final short compareDocumentPosition(final Node other) {
+        final short pos;
+        if (this.equals(other)) {
+            pos = 0;
+        } else if (other instanceof CompactNode
+            && ((CompactNode) other).dom == this.dom) {
+            final int that = ((CompactNode) other).idx;
+            if (this.ancestor(that, this.idx)) {
+                pos = Node.DOCUMENT_POSITION_CONTAINS
+                    | Node.DOCUMENT_POSITION_PRECEDING;
+            } else if (this.ancestor(this.idx, that)) {
+                pos = Node.DOCUMENT_POSITION_CONTAINED_BY
+                    | Node.DOCUMENT_POSITION_FOLLOWING;
+            } else if (that < this.idx) {
+                pos = Node.DOCUMENT_POSITION_PRECEDING;
+            } else {
+                pos = Node.DOCUMENT_POSITION_FOLLOWING;
+            }
+        } else {
+            final short order;
+            if (System.identityHashCode(other) < System.identityHashCode(this)) {
+                order = Node.DOCUMENT_POSITION_PRECEDING;
+            } else {
+                order = Node.DOCUMENT_POSITION_FOLLOWING;
+            }
+            pos = (short) (Node.DOCUMENT_POSITION_DISCONNECTED
+                | Node.DOCUMENT_POSITION_IMPLEMENTATION_SPECIFIC | order);
+        }
+        return pos;
+    }
+
+    @Override
+    public String getTextContent() {
+        return this.dom.value(this.idx);
+    }
+
+    @Override
+    public final void setTextContent(final String text) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final boolean isSameNode(final Node other) {
+        return this.equals(other);
+    }
+
+    @Override
+    public final String lookupPrefix(final String uri) {
+        String prefix = null;
+        if (uri != null && !uri.isEmpty()) {
+            for (int elm = this.element(); elm != CompactDom.NONE && prefix == null;
+                elm = this.dom.parent(elm)) {
+                for (int att = this.dom.attribute(elm); att != CompactDom.NONE;
+                    att = this.dom.next(att)) {
+                    if (CompactNode.declaration(this.dom, att)
+                        && uri.equals(this.dom.value(att))
+                        && !XMLConstants.XMLNS_ATTRIBUTE.equals(this.dom.name(att))) {
+                        prefix = this.dom.local(att);
+                        break;
+                    }
+                }
+            }
+        }
+        return prefix;
+    }
+
+    @Override
+    public final boolean isDefaultNamespace(final String uri) {
+        return Objects.equals(this.lookupNamespaceURI(null), uri);
+    }
+
+    @Override
+    public final String lookupNamespaceURI(final String prefix) {
+        final String attr;
+        if (prefix == null || prefix.isEmpty()) {
+            attr = XMLConstants.XMLNS_ATTRIBUTE;
+        } else {
+            attr = String.format("%s:%s", XMLConstants.XMLNS_ATTRIBUTE, prefix);
+        }
+        String uri = null;
+        boolean found = false;
+        for (int elm = this.element(); elm != CompactDom.NONE && !found;
+            elm = this.dom.parent(elm)) {
+            for (int att = this.dom.attribute(elm); att != CompactDom.NONE;
+                att = this.dom.next(att)) {
+                if (CompactNode.declaration(this.dom, att)
+                    && attr.equals(this.dom.name(att))) {
+                    uri = this.dom.value(att);
+                    found = true;
+                    break;
+                }
+            }
+        }
+        if (uri != null && uri.isEmpty()) {
+            uri = null;
+        }
+        return uri;
+    }
+
+    @Override
+    public final boolean isEqualNode(final Node other) {
+        return CompactNode.equal(this, other);
+    }
+
+    @Override
+    public final Object getFeature(final String feature,
+        final String version) {
+        return null;
+    }
+
+    @Override
+    public final Object setUserData(final String key, final Object data,
+        final UserDataHandler handler) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final Object getUserData(final String key) {
+        return null;
+    }
+
+    /**
+     * Exception about an attempt to modify the node.
+     * @return The exception
+     */
+    static DOMException readOnly() {
+        return new DOMException(
+            DOMException.NO_MODIFICATION_ALLOWED_ERR,
+            "The DOM is read-only"
+        );
+    }
+
+    /**
+     * Exception about an operation, which is not supported.
+     * @param what What is not supported
+     * @return The exception
+     */
+    static DOMException unsupported(final String what) {
+        return new DOMException(
+            DOMException.NOT_SUPPORTED_ERR,
+            String.format("%s is not supported by a read-only DOM", what)
+        );
+    }
+
+    /**
+     * Descendant elements with the given name.
+     * @param uri Namespace URI, {@code *} for any, NULL to compare names
+     * @param name Local or qualified name, {@code *} for any
+     * @return The elements, in document order
+     */
+    protected final NodeList descendants(final String uri, final String name) {
+        int[] found = new int[16];
+        int total = 0;
+        final int end = this.end();
+        for (int pos = this.idx + 1; pos < end; ++pos) {
+            if (this.dom.type(pos) == Node.ELEMENT_NODE
+                && CompactNode.named(this.dom, pos, uri, name)) {
+                if (total == found.length) {
+                    found = Arrays.copyOf(found, total << 1);
+                }
+                found[total] = pos;
+                ++total;
+            }
+        }
+        return new CompactNode.Indexes(this.dom, Arrays.copyOf(found, total));
+    }
+
+    /**
+     * Text of all descendant text nodes.
+     * @return The text
+     */
+    protected final String text() {
+        final StringBuilder text = new StringBuilder(0);
+        final int end = this.end();
+        for (int pos = this.idx + 1; pos < end; ++pos) {
+            final short type = this.dom.type(pos);
+            if (type == Node.TEXT_NODE || type == Node.CDATA_SECTION_NODE) {
+                text.append(this.dom.value(pos));
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Does the node have this name?
+     * @param storage The storage
+     * @param pos Index of the node
+     * @param uri Namespace URI, {@code *} for any, NULL to compare names
+     * @param name Local or qualified name, {@code *} for any
+     * @return TRUE if it does
+     */
+    protected static boolean named(final CompactDom storage, final int pos,
+        final String uri, final String name) {
+        final boolean match;
+        if (uri == null) {
+            match = "*".equals(name) || name.equals(storage.name(pos));
+        } else {
+            match = ("*".equals(uri) || uri.equals(Objects.toString(storage.namespace(pos), "")))
+                && ("*".equals(name) || name.equals(storage.local(pos)));
+        }
+        return match;
+    }
+
+    /**
+     * Is it a namespace declaration attribute?
+     * @param storage The storage
+     * @param att Index of the attribute
+     * @return TRUE if it is
+     */
+    private static boolean declaration(final CompactDom storage,
+        final int att) {
+        return XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(
+            storage.namespace(att)
+        );
+    }
+
+    /**
+     * Are these nodes equal, in terms of {@link Node#isEqualNode(Node)}?
+     * @param first The first node
+     * @param second The second node
+     * @return TRUE if equal
+     */
+    private static boolean equal(final Node first, final Node second) {
+        boolean eql = second != null
+            && first.getNodeType() == second.getNodeType()
+            && Objects.equals(first.getNodeName(), second.getNodeName())
+            && Objects.equals(first.getLocalName(), second.getLocalName())
+            && Objects.equals(first.getNamespaceURI(), second.getNamespaceURI())
+            && Objects.equals(first.getPrefix(), second.getPrefix())
+            && Objects.equals(first.getNodeValue(), second.getNodeValue());
+        if (eql) {
+            final NamedNodeMap left = first.getAttributes();
+            final NamedNodeMap right = second.getAttributes();
+            if (left == null || right == null) {
+                eql = left == right;
+            } else {
+                eql = left.getLength() == right.getLength();
+                for (int pos = 0; eql && pos < left.getLength(); ++pos) {
+                    final Node att = left.item(pos);
+                    final Node twin;
+                    if (att.getLocalName() == null) {
+                        twin = right.getNamedItem(att.getNodeName());
+                    } else {
+                        twin = right.getNamedItemNS(
+                            att.getNamespaceURI(), att.getLocalName()
+                        );
+                    }
+                    eql = CompactNode.equal(att, twin);
+                }
+            }
+        }
+        if (eql) {
+            final NodeList left = first.getChildNodes();
+            final NodeList right = second.getChildNodes();
+            eql = left.getLength() == right.getLength();
+            for (int pos = 0; eql && pos < left.getLength(); ++pos) {
+                eql = CompactNode.equal(left.item(pos), right.item(pos));
+            }
+        }
+        return eql;
+    }
+
+    /**
+     * Is it an ancestor of the node?
+     * @param ancestor Index of the possible ancestor
+     * @param node Index of the node
+     * @return TRUE if it is
+     */
+    private boolean ancestor(final int ancestor, final int node) {
+        boolean found = false;
+        for (int pos = this.dom.parent(node); pos != CompactDom.NONE;
+            pos = this.dom.parent(pos)) {
+            if (pos == ancestor) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Index of the element, where namespaces are looked up.
+     * @return Index or {@link CompactDom#NONE}
+     */
+    private int element() {
+        int elm = this.idx;
+        while (elm != CompactDom.NONE
+            && this.dom.type(elm) != Node.ELEMENT_NODE) {
+            if (this.dom.type(elm) == Node.DOCUMENT_NODE) {
+                elm = this.dom.first(elm);
+                while (elm != CompactDom.NONE
+                    && this.dom.type(elm) != Node.ELEMENT_NODE) {
+                    elm = this.dom.next(elm);
+                }
+                break;
+            }
+            elm = this.dom.parent(elm);
+        }
+        return elm;
+    }
+
+    /**
+     * Index right after the last descendant of the node.
+     * @return The index
+     */
+    private int end() {
+        int end = this.dom.size();
+        for (int pos = this.idx; pos != CompactDom.NONE;
+            pos = this.dom.parent(pos)) {
+            final int next = this.dom.next(pos);
+            if (next != CompactDom.NONE
+                && this.dom.type(next) != Node.ATTRIBUTE_NODE) {
+                end = next;
+                break;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Children of a node.
+     *
+     * <p>The list remembers the last position, so iterating it by
+     * {@link #item(int)} in order is fast.
+     *
+     * <p>The class is NOT thread-safe.
+     *
+     * @since 0.36.0
+     */
+    private static final class Children implements NodeList {
+
+        /**
+         * The storage.
+         */
+        private final CompactDom dom;
+
+        /**
+         * Index of the parent.
+         */
+        private final int parent;
+
+        /**
+         * Position of the last item requested.
+         */
+        private int pos;
+
+        /**
+         * Index of the last item requested.
+         */
+        private int cursor;
+
+        /**
+         * Ctor.
+         * @param storage The storage
+         * @param node Index of the parent
+         */
+        Children(final CompactDom storage, final int node) {
+            this.dom = storage;
+            this.parent = node;
+            this.cursor = storage.first(node);
+        }
+
+        @Override
+        public Node item(final int index) {
+            Node node = null;
+            if (index >= 0) {
+                if (index < this.pos || this.cursor == CompactDom.NONE) {
+                    this.pos = 0;
+                    this.cursor = this.dom.first(this.parent);
+                }
+                while (this.cursor != CompactDom.NONE && this.pos < index) {
+                    this.cursor = this.dom.next(this.cursor);
+                    ++this.pos;
+                }
+                node = this.dom.node(this.cursor);
+            }
+            return node;
+        }
+
+        @Override
+        public int getLength() {
+            int total = 0;
+            for (int child = this.dom.first(this.parent);
+                child != CompactDom.NONE; child = this.dom.next(child)) {
+                ++total;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * List of nodes, by their indexes.
+     *
+     * @since 0.36.0
+     */
+    private static final class Indexes implements NodeList {
+
+        /**
+         * The storage.
+         */
+        private final CompactDom dom;
+
+        /**
+         * Indexes of the nodes.
+         */
+        private final int[] nodes;
+
+        /**
+         * Ctor.
+         * @param storage The storage
+         * @param list Indexes of the nodes
+         */
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        Indexes(final CompactDom storage, final int[] list) {
+            this.dom = storage;
+            this.nodes = list;
+        }
+
+        @Override
+        public Node item(final int index) {
+            Node node = null;
+            if (index >= 0 && index < this.nodes.length) {
+                node = this.dom.node(this.nodes[index]);
+            }
+            return node;
+        }
+
+        @Override
+        public int getLength() {
+            return this.nodes.length;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.w3c.dom.ProcessingInstruction;
+
+/**
+ * Processing instruction of a compact, read-only DOM.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class CompactPi extends CompactNode implements ProcessingInstruction {
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactPi(final CompactDom storage, final int index) {
+        super(storage, index);
+    }
+
+    @Override
+    public String getTarget() {
+        return this.getNodeName();
+    }
+
+    @Override
+    public String getData() {
+        return this.getNodeValue();
+    }
+
+    @Override
+    public void setData(final String data) {
+        throw CompactNode.readOnly();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+/**
+ * Text of a compact, read-only DOM.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+class CompactText extends CompactData implements Text {
+
+    /**
+     * Ctor.
+     * @param storage The storage
+     * @param index Index of the node
+     */
+    CompactText(final CompactDom storage, final int index) {
+        super(storage, index);
+    }
+
+    @Override
+    public String getNodeName() {
+        return "#text";
+    }
+
+    @Override
+    public final Text splitText(final int offset) {
+        throw CompactNode.readOnly();
+    }
+
+    @Override
+    public final boolean isElementContentWhitespace() {
+        return false;
+    }
+
+    @Override
+    public final String getWholeText() {
+        int first = this.idx;
+        while (CompactText.textual(this.dom, this.dom.previous(first))) {
+            first = this.dom.previous(first);
+        }
+        final StringBuilder text = new StringBuilder(0);
+        for (int pos = first; CompactText.textual(this.dom, pos);
+            pos = this.dom.next(pos)) {
+            text.append(this.dom.value(pos));
+        }
+        return text.toString();
+    }
+
+    @Override
+    public final Text replaceWholeText(final String content) {
+        throw CompactNode.readOnly();
+    }
+
+    /**
+     * Is it a text or CDATA node?
+     * @param storage The storage
+     * @param pos Index of the node
+     * @return TRUE if it is
+     */
+    private static boolean textual(final CompactDom storage, final int pos) {
+        return pos != CompactDom.NONE
+            && (storage.type(pos) == Node.TEXT_NODE
+            || storage.type(pos) == Node.CDATA_SECTION_NODE);
+    }
+}
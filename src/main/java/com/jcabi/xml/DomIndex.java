@@ -0,0 +1,409 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Index of elements of a document, by names and by values of key
+ * attributes.
+ *
+ * <p>The index is built on first use, in one pass over the document,
+ * and then answers queries of these forms without scanning the document
+ * again:
+ * <ul>
+ *   <li>{@code //item}, {@code //p:item}, {@code //*} — elements
+ *   by their names</li>
+ *   <li>{@code //*[local-name()='item']} — elements by local names,
+ *   in any namespace</li>
+ *   <li>{@code //item[@id='42']}, {@code //*[@id='42']} — elements by
+ *   a value of a key attribute, which must be one of those given
+ *   to the constructor</li>
+ *   <li>any of the above, followed by an attribute step,
+ *   like {@code //item[@id='42']/@price}</li>
+ * </ul>
+ *
+ * <p>Nodes are returned in document order, exactly as an XPath engine
+ * would return them. The document must not be modified after the index
+ * is built, that's why it makes most sense for compact documents.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class DomIndex {
+
+    /**
+     * No index.
+     */
+    static final DomIndex NONE = new DomIndex(null, Collections.emptyList());
+
+    /**
+     * Name, possibly prefixed.
+     */
+    private static final String NAME =
+        "(?:[\\p{L}_][\\p{L}\\p{N}_.\\-]*:)?[\\p{L}_][\\p{L}\\p{N}_.\\-]*";
+
+    /**
+     * Query, which the index can answer.
+     */
+    private static final Pattern QUERY = Pattern.compile(
+        String.format(
+            String.join(
+                "",
+                "//(?:(%1$s)|\\*\\[local-name\\(\\)\\s*=\\s*(['\"])([^'\"]+)\\2]|(\\*))",
+                "(?:\\[@([\\p{L}_][\\p{L}\\p{N}_.\\-]*)\\s*=\\s*(['\"])([^'\"]*)\\6])?",
+                "(?:/@(%1$s))?"
+            ),
+            DomIndex.NAME
+        )
+    );
+
+    /**
+     * The document, or NULL.
+     */
+    private final Node root;
+
+    /**
+     * Names of key attributes.
+     */
+    private final Collection<String> keys;
+
+    /**
+     * Tables of the index, built on first use.
+     */
+    private final Unchecked<DomIndex.Tables> tables;
+
+    /**
+     * Ctor.
+     * @param node The document
+     * @param attrs Names of key attributes, without namespaces
+     */
+    DomIndex(final Node node, final Collection<String> attrs) {
+        this.root = node;
+        this.keys = Collections.unmodifiableCollection(new LinkedHashSet<>(attrs));
+        this.tables = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> new DomIndex.Tables(node, this.keys)))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return String.format("index by names and %s", this.keys);
+    }
+
+    /**
+     * Names of key attributes.
+     * @return Names
+     */
+    Collection<String> keys() {
+        return this.keys;
+    }
+
+    /**
+     * Find nodes.
+     * @param node The context node
+     * @param query The query
+     * @param context Namespace context with prefixes of the query
+     * @return Nodes found, in document order, or NULL if the index
+     *  can't answer the query
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    List<Node> nodes(final Node node, final String query,
+        final NamespaceContext context) {
+        List<Node> found = null;
+        if (this != DomIndex.NONE && query.startsWith("//")
+            && DomIndex.top(node) == this.root) {
+            final Matcher matcher = DomIndex.QUERY.matcher(query);
+            if (matcher.matches() && (matcher.group(5) == null
+                || this.keys.contains(matcher.group(5)))) {
+                found = this.find(matcher, context);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Find nodes by the query, which is recognized.
+     * @param matcher Groups of the query
+     * @param context Namespace context
+     * @return Nodes found, or NULL if the index can't answer
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private List<Node> find(final Matcher matcher, final NamespaceContext context) {
+        final DomIndex.Tables tbl = this.tables.value();
+        List<Node> found = null;
+        if (tbl.usable()) {
+            final String name;
+            if (matcher.group(1) != null) {
+                name = DomIndex.qualified(matcher.group(1), context);
+            } else if (matcher.group(3) != null) {
+                name = matcher.group(3);
+            } else {
+                name = "";
+            }
+            final String attr = DomIndex.qualified(matcher.group(8), context);
+            if (name != null && attr != null) {
+                found = tbl.elements(
+                    name, matcher.group(3) != null, matcher.group(5), matcher.group(7)
+                );
+                if (matcher.group(8) != null) {
+                    found = DomIndex.attributes(found, attr);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Qualified name, in the form of {@code {uri}local}, or just
+     * {@code local} if there is no prefix.
+     * @param name Name in the query, possibly prefixed, or NULL
+     * @param context Namespace context
+     * @return The name, empty if NULL, or NULL if the prefix is unknown
+     */
+    private static String qualified(final String name, final NamespaceContext context) {
+        String qualified = "";
+        if (name != null) {
+            final int colon = name.indexOf(':');
+            if (colon < 0) {
+                qualified = DomIndex.key(null, name);
+            } else {
+                final String uri = context.getNamespaceURI(name.substring(0, colon));
+                if (uri == null || uri.isEmpty()) {
+                    qualified = null;
+                } else {
+                    qualified = DomIndex.key(uri, name.substring(colon + 1));
+                }
+            }
+        }
+        return qualified;
+    }
+
+    /**
+     * Key of the name in the tables.
+     * @param uri Namespace URI, NULL or empty if none
+     * @param local Local name
+     * @return Key
+     */
+    private static String key(final String uri, final String local) {
+        final String key;
+        if (uri == null || uri.isEmpty()) {
+            key = local;
+        } else {
+            key = String.format("{%s}%s", uri, local);
+        }
+        return key;
+    }
+
+    /**
+     * Attributes of the elements with the name.
+     * @param elements The elements
+     * @param name Qualified name of the attribute
+     * @return Attributes
+     */
+    private static List<Node> attributes(final List<Node> elements, final String name) {
+        final List<Node> found = new ArrayList<>(elements.size());
+        for (final Node element : elements) {
+            final NamedNodeMap attrs = element.getAttributes();
+            for (int idx = 0; idx < attrs.getLength(); ++idx) {
+                final Node attr = attrs.item(idx);
+                if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI())
+                    && name.equals(DomIndex.key(attr.getNamespaceURI(), attr.getLocalName()))) {
+                    found.add(attr);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The root of the tree with the node.
+     * @param node The node
+     * @return The root
+     */
+    static Node top(final Node node) {
+        Node top = node;
+        if (top.getNodeType() == Node.ATTRIBUTE_NODE) {
+            top = top.getOwnerDocument();
+        }
+        while (top != null && top.getParentNode() != null) {
+            top = top.getParentNode();
+        }
+        return top;
+    }
+
+    /**
+     * Tables of the index.
+     *
+     * @since 0.36.0
+     */
+    private static final class Tables {
+
+        /**
+         * All elements.
+         */
+        private final List<Node> all;
+
+        /**
+         * Elements by qualified names.
+         */
+        private final Map<String, List<Node>> names;
+
+        /**
+         * Elements by local names.
+         */
+        private final Map<String, List<Node>> locals;
+
+        /**
+         * Elements by names and values of key attributes.
+         */
+        private final Map<String, Map<String, List<Node>>> values;
+
+        /**
+         * Whether all names are known, which is not the case in
+         * documents parsed without namespaces.
+         */
+        private final boolean complete;
+
+        /**
+         * Ctor.
+         * @param root The document
+         * @param keys Names of key attributes
+         */
+        Tables(final Node root, final Collection<String> keys) {
+            this.all = new ArrayList<>(0);
+            this.names = new HashMap<>(0);
+            this.locals = new HashMap<>(0);
+            this.values = new HashMap<>(0);
+            for (final String key : keys) {
+                this.values.put(key, new HashMap<>(0));
+            }
+            this.complete = root.getNodeType() == Node.DOCUMENT_NODE
+                && this.collect(root);
+        }
+
+        /**
+         * Can the tables be used?
+         * @return TRUE if they are complete
+         */
+        boolean usable() {
+            return this.complete;
+        }
+
+        /**
+         * Elements by name and, optionally, by a value of a key attribute.
+         * @param name Qualified or local name, or empty for any
+         * @param local Whether the name is local, in any namespace
+         * @param attr Key attribute, or NULL
+         * @param value Its value, or NULL
+         * @return Elements, in document order
+         */
+        List<Node> elements(final String name, final boolean local,
+            final String attr, final String value) {
+            final List<Node> found;
+            if (attr == null && name.isEmpty()) {
+                found = this.all;
+            } else if (attr == null && local) {
+                found = this.locals.getOrDefault(name, Collections.emptyList());
+            } else if (attr == null) {
+                found = this.names.getOrDefault(name, Collections.emptyList());
+            } else {
+                final List<Node> keyed = this.values.get(attr)
+                    .getOrDefault(value, Collections.emptyList());
+                found = new ArrayList<>(keyed.size());
+                for (final Node node : keyed) {
+                    if (name.isEmpty() || local && name.equals(node.getLocalName())
+                        || !local && name.equals(
+                            DomIndex.key(node.getNamespaceURI(), node.getLocalName())
+                        )) {
+                        found.add(node);
+                    }
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Collect elements under the node, in document order.
+         *
+         * <p>The DOM is walked without recursion, with an explicit stack
+         * of siblings to visit later, so that the depth of the document
+         * doesn't matter.
+         *
+         * @param node The node
+         * @return FALSE if some names are not known
+         */
+        private boolean collect(final Node node) {
+            final Deque<Node> later = new ArrayDeque<>(0);
+            boolean known = true;
+            Node next = node.getFirstChild();
+            while (known && next != null) {
+                final Node child = next;
+                next = null;
+                if (child.getNodeType() == Node.ELEMENT_NODE) {
+                    final String local = child.getLocalName();
+                    known = local != null;
+                    if (known) {
+                        this.add(child, local);
+                        next = child.getFirstChild();
+                    }
+                }
+                final Node sibling = child.getNextSibling();
+                if (next == null) {
+                    next = sibling;
+                } else if (sibling != null) {
+                    later.push(sibling);
+                }
+                if (next == null && !later.isEmpty()) {
+                    next = later.pop();
+                }
+            }
+            return known;
+        }
+
+        /**
+         * Add the element to the tables.
+         * @param element The element
+         * @param local Its local name
+         */
+        private void add(final Node element, final String local) {
+            this.all.add(element);
+            this.names.computeIfAbsent(
+                DomIndex.key(element.getNamespaceURI(), local),
+                key -> new ArrayList<>(1)
+            ).add(element);
+            this.locals.computeIfAbsent(local, key -> new ArrayList<>(1)).add(element);
+            final NamedNodeMap attrs = element.getAttributes();
+            for (int idx = 0; idx < attrs.getLength(); ++idx) {
+                final Node attr = attrs.item(idx);
+                final String uri = attr.getNamespaceURI();
+                final Map<String, List<Node>> table = this.values.get(attr.getLocalName());
+                if (table != null && (uri == null || uri.isEmpty())) {
+                    table.computeIfAbsent(
+                        attr.getNodeValue(), key -> new ArrayList<>(1)
+                    ).add(element);
+                }
+            }
+        }
+    }
+}
@@ -7,15 +7,21 @@ package com.jcabi.xml;
 import com.jcabi.log.Logger;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 /**
  * Convenient parser of XML to DOM.
@@ -29,9 +35,9 @@ import org.xml.sax.SAXException;
 final class DomParser {
 
     /**
-     * Document builder factory to use for parsing.
+     * Pool of document builders to use for parsing.
      */
-    private final transient DocumentBuilderFactory factory;
+    private final transient BuilderPool pool;
 
     /**
      * Source of XML.
@@ -52,7 +58,7 @@ final class DomParser {
      * @param txt The XML in text (in UTF-8)
      */
     DomParser(final DocumentBuilderFactory fct, final String txt) {
-        this(fct, new BytesSource(txt));
+        this(new BuilderPool(fct, 1), txt);
     }
 
     /**
@@ -67,7 +73,7 @@ final class DomParser {
      * @param bytes The XML in bytes
      */
     DomParser(final DocumentBuilderFactory fct, final byte[] bytes) {
-        this(fct, new BytesSource(bytes));
+        this(new BuilderPool(fct, 1), bytes);
     }
 
     /**
@@ -82,16 +88,65 @@ final class DomParser {
      * @param file The XML as a file
      */
     DomParser(final DocumentBuilderFactory fct, final File file) {
-        this(fct, new FileSource(file));
+        this(new BuilderPool(fct, 1), file);
+    }
+
+    /**
+     * Public ctor.
+     *
+     * <p>It is assumed that the text is in UTF-8.
+     *
+     * @param builders Pool of document builders to use
+     * @param txt The XML in text (in UTF-8)
+     * @since 0.36.0
+     */
+    DomParser(final BuilderPool builders, final String txt) {
+        this(builders, new BytesSource(txt));
+    }
+
+    /**
+     * Public ctor.
+     * @param builders Pool of document builders to use
+     * @param bytes The XML in bytes
+     * @since 0.36.0
+     */
+    DomParser(final BuilderPool builders, final byte[] bytes) {
+        this(builders, new BytesSource(bytes));
+    }
+
+    /**
+     * Public ctor.
+     * @param builders Pool of document builders to use
+     * @param file The XML as a file
+     * @since 0.36.0
+     */
+    DomParser(final BuilderPool builders, final File file) {
+        this(builders, new FileSource(file));
+    }
+
+    /**
+     * Public ctor.
+     *
+     * <p>The stream is handed to the parser as is, without reading
+     * it into a string first, so the encoding is detected by the parser
+     * from the byte order mark or the XML declaration. The stream is
+     * not closed.
+     *
+     * @param builders Pool of document builders to use
+     * @param stream The XML as a stream of bytes
+     * @since 0.36.0
+     */
+    DomParser(final BuilderPool builders, final InputStream stream) {
+        this(builders, new StreamSource(stream));
     }
 
     /**
      * Private ctor.
-     * @param factory Document builder factory to use
+     * @param builders Pool of document builders to use
      * @param source Source of XML
      */
-    private DomParser(final DocumentBuilderFactory factory, final DocSource source) {
-        this.factory = factory;
+    private DomParser(final BuilderPool builders, final DocSource source) {
+        this.pool = builders;
         this.source = source;
     }
 
@@ -101,37 +156,92 @@ final class DomParser {
      */
     @SuppressWarnings("PMD.UnnecessaryLocalRule")
     public Document document() {
-        final DocumentBuilder builder;
+        final DocumentBuilder builder = this.pool.acquire();
+        final long start = System.nanoTime();
+        final Probe probe = new Probe("parse");
+        final AtomicLong size = new AtomicLong();
+        final Document doc;
         try {
-            builder = this.factory.newDocumentBuilder();
-        } catch (final ParserConfigurationException ex) {
+            doc = this.source.apply(builder, size);
+        } catch (final IOException | SAXException ex) {
+            probe.failed();
             throw new IllegalArgumentException(
                 String.format(
-                    "Failed to create document builder by %s",
-                    this.factory.getClass().getName()
+                    "Can't parse by %s, most probably the XML is invalid",
+                    builder.getClass().getName()
                 ),
                 ex
             );
+        } finally {
+            this.pool.release(builder);
         }
+        probe.done(size.get());
+        if (Logger.isTraceEnabled(this)) {
+            Logger.trace(
+                this,
+                "%s parsed %d bytes of XML in %[nano]s",
+                builder.getClass().getName(),
+                size.get(),
+                System.nanoTime() - start
+            );
+        }
+        return doc;
+    }
+
+    /**
+     * Get the document body as a compact, read-only DOM.
+     *
+     * <p>The document is built directly from SAX events, without
+     * a regular DOM in between. It takes a few times less memory than
+     * {@link #document()}, but can't be modified. DTD is not kept
+     * in the document.
+     *
+     * @return The document
+     * @since 0.36.0
+     */
+    public Document compact() {
+        return this.compact(NamePool.DEFAULT);
+    }
+
+    /**
+     * Get the document body as a compact, read-only DOM.
+     * @param names Pool of names to keep names and namespaces in
+     * @return The document
+     * @since 0.36.0
+     */
+    Document compact(final NamePool names) {
         final long start = System.nanoTime();
-        final Document doc;
+        final Probe probe = new Probe("parse");
+        final SAXParserFactory factory = ParserProfile.DEFAULT.sax();
+        final CompactHandler handler = new CompactHandler(names);
+        final AtomicLong size = new AtomicLong();
         try {
-            doc = this.source.apply(builder);
+            final XMLReader reader = factory.newSAXParser().getXMLReader();
+            reader.setContentHandler(handler);
+            reader.setProperty(
+                "http://xml.org/sax/properties/lexical-handler", handler
+            );
+            reader.parse(this.source.input(size));
+        } catch (final ParserConfigurationException ex) {
+            throw new IllegalStateException(ex);
         } catch (final IOException | SAXException ex) {
+            probe.failed();
             throw new IllegalArgumentException(
                 String.format(
                     "Can't parse by %s, most probably the XML is invalid",
-                    builder.getClass().getName()
+                    factory.getClass().getName()
                 ),
                 ex
             );
         }
+        final Document doc = handler.document();
+        probe.done(size.get());
         if (Logger.isTraceEnabled(this)) {
             Logger.trace(
                 this,
-                "%s parsed %d bytes of XML in %[nano]s",
-                builder.getClass().getName(),
-                this.source.length(),
+                "%s parsed %d bytes of XML into compact DOM in %[nano]s",
+                factory.getClass().getName(),
+                size.get(),
                 System.nanoTime() - start
             );
         }
@@ -147,17 +257,21 @@ final class DomParser {
         /**
          * Parse XML by the builder.
          * @param builder The builder to use during parsing.
+         * @param size Where to add the number of bytes parsed
          * @return The document.
          * @throws IOException If fails.
          * @throws SAXException If fails.
          */
-        Document apply(DocumentBuilder builder) throws IOException, SAXException;
+        Document apply(DocumentBuilder builder, AtomicLong size)
+            throws IOException, SAXException;
 
         /**
-         * The length of the source.
-         * @return The length.
+         * The source as SAX input.
+         * @param size Where to add the number of bytes parsed
+         * @return The input
+         * @throws IOException If fails
          */
-        long length();
+        InputSource input(AtomicLong size) throws IOException;
     }
 
     /**
@@ -180,13 +294,16 @@ final class DomParser {
         }
 
         @Override
-        public Document apply(final DocumentBuilder builder) throws IOException, SAXException {
+        public Document apply(final DocumentBuilder builder, final AtomicLong size)
+            throws IOException, SAXException {
+            size.addAndGet(this.file.length());
             return builder.parse(this.file);
         }
 
         @Override
-        public long length() {
-            return this.file.length();
+        public InputSource input(final AtomicLong size) {
+            size.addAndGet(this.file.length());
+            return new InputSource(this.file.toURI().toString());
         }
     }
 
@@ -219,13 +336,97 @@ final class DomParser {
         }
 
         @Override
-        public Document apply(final DocumentBuilder builder) throws IOException, SAXException {
+        public Document apply(final DocumentBuilder builder, final AtomicLong size)
+            throws IOException, SAXException {
+            size.addAndGet(this.xml.length);
             return builder.parse(new ByteArrayInputStream(this.xml));
         }
 
         @Override
-        public long length() {
-            return this.xml.length;
+        public InputSource input(final AtomicLong size) {
+            size.addAndGet(this.xml.length);
+            return new InputSource(new ByteArrayInputStream(this.xml));
+        }
+    }
+
+    /**
+     * Stream source of XML.
+     * @since 0.36.0
+     */
+    private static class StreamSource implements DocSource {
+
+        /**
+         * The stream.
+         */
+        private final InputStream stream;
+
+        /**
+         * Public ctor.
+         * @param stream The stream.
+         */
+        StreamSource(final InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public Document apply(final DocumentBuilder builder, final AtomicLong size)
+            throws IOException, SAXException {
+            return builder.parse(new DomParser.Counted(this.stream, size));
+        }
+
+        @Override
+        public InputSource input(final AtomicLong size) {
+            return new InputSource(new DomParser.Counted(this.stream, size));
+        }
+    }
+
+    /**
+     * Stream, which counts bytes read and can't be closed.
+     *
+     * <p>A new one is made for every parsing, so that the count belongs
+     * to that parsing only.
+     *
+     * @since 0.36.0
+     */
+    private static final class Counted extends FilterInputStream {
+
+        /**
+         * How many bytes were read.
+         */
+        private final AtomicLong total;
+
+        /**
+         * Ctor.
+         * @param stream The stream
+         * @param size Where to add the number of bytes read
+         */
+        Counted(final InputStream stream, final AtomicLong size) {
+            super(stream);
+            this.total = size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int data = super.read();
+            if (data >= 0) {
+                this.total.incrementAndGet();
+            }
+            return data;
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len)
+            throws IOException {
+            final int done = super.read(buf, off, len);
+            if (done > 0) {
+                this.total.addAndGet(done);
+            }
+            return done;
+        }
+
+        @Override
+        public void close() {
+            // the stream is closed by its owner
         }
     }
 }
@@ -0,0 +1,345 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Evaluation of trivial XPath queries by walking the DOM directly.
+ *
+ * <p>Most queries are plain paths, like {@code /order/customer/@id} or
+ * {@code /a/b[2]/c/text()}, see {@link SimplePath}, and there is no need
+ * to compile them and evaluate by a generic XPath engine: children are
+ * just iterated, step by step. The result is exactly the same as
+ * an XPath 1.0 engine would return: nodes are in document order,
+ * namespace declarations are not attributes, and adjacent text nodes
+ * are one node, represented by the first of them.
+ *
+ * <p>If the query is not such a path, its prefix is not known to the
+ * context, or the DOM has something unusual, like entity references
+ * or nodes without local names, the walk gives up, returning NULL,
+ * and the query has to be evaluated by the engine.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class DomWalk {
+
+    /**
+     * Maximum number of queries to remember.
+     */
+    private static final int MAX = 4096;
+
+    /**
+     * Queries seen before, recognized or not.
+     */
+    private static final ConcurrentMap<String, SimplePath> PATHS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * The path.
+     */
+    private final SimplePath path;
+
+    /**
+     * Ctor.
+     * @param query The XPath query
+     */
+    DomWalk(final String query) {
+        this(DomWalk.parsed(query));
+    }
+
+    /**
+     * Ctor.
+     * @param pth The path
+     */
+    private DomWalk(final SimplePath pth) {
+        this.path = pth;
+    }
+
+    /**
+     * Find nodes.
+     * @param node The context node
+     * @param context Namespace context with prefixes of the query
+     * @return Nodes found, in document order, or NULL if the query
+     *  can't be evaluated by walking the DOM
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    List<Node> nodes(final Node node, final NamespaceContext context) {
+        List<Node> found = null;
+        if (this.path.valid()) {
+            final List<SimplePath.Step> steps = this.path.steps();
+            final String[] uris = new String[steps.size() + 1];
+            boolean known = true;
+            for (int idx = 0; known && idx < steps.size(); ++idx) {
+                uris[idx] = DomWalk.uri(steps.get(idx), context);
+                known = uris[idx] != null;
+            }
+            if (known && this.path.attribute()) {
+                uris[steps.size()] = DomWalk.uri(this.path.target(), context);
+                known = uris[steps.size()] != null;
+            }
+            final Node start = DomWalk.start(node, this.path.absolute());
+            if (known && start != null) {
+                found = this.walk(start, uris);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Walk from the node.
+     * @param start Where to start
+     * @param uris Namespace URIs of steps
+     * @return Nodes found, or NULL if the DOM is not supported
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private List<Node> walk(final Node start, final String[] uris) {
+        List<Node> current = Collections.singletonList(start);
+        final List<SimplePath.Step> steps = this.path.steps();
+        for (int idx = 0; current != null && idx < steps.size(); ++idx) {
+            current = DomWalk.children(current, steps.get(idx), uris[idx]);
+        }
+        if (current != null && this.path.attribute()) {
+            current = DomWalk.attributes(
+                current, this.path.target(), uris[steps.size()]
+            );
+        } else if (current != null && this.path.text()) {
+            current = DomWalk.texts(current);
+        }
+        return current;
+    }
+
+    /**
+     * Child elements of the nodes, which match the step.
+     * @param parents The nodes
+     * @param step The step
+     * @param uri Namespace URI of the step
+     * @return Elements found, or NULL if the DOM is not supported
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private static List<Node> children(final List<Node> parents,
+        final SimplePath.Step step, final String uri) {
+        final List<Node> found = new ArrayList<>(parents.size());
+        boolean supported = true;
+        for (int idx = 0; supported && idx < parents.size(); ++idx) {
+            int seen = 0;
+            Node child = parents.get(idx).getFirstChild();
+            while (supported && child != null) {
+                final short type = child.getNodeType();
+                final String local = child.getLocalName();
+                supported = type != Node.ENTITY_REFERENCE_NODE
+                    && (type != Node.ELEMENT_NODE || local != null);
+                if (supported && type == Node.ELEMENT_NODE
+                    && DomWalk.matches(step, uri, child.getNamespaceURI(), local)) {
+                    ++seen;
+                    if (step.position() == 0 || step.position() == seen) {
+                        found.add(child);
+                    }
+                }
+                if (step.position() > 0 && step.position() == seen) {
+                    child = null;
+                } else {
+                    child = child.getNextSibling();
+                }
+            }
+        }
+        List<Node> result = null;
+        if (supported) {
+            result = found;
+        }
+        return result;
+    }
+
+    /**
+     * Attributes of the elements, which match the step.
+     * @param elements The elements
+     * @param step The step
+     * @param uri Namespace URI of the step
+     * @return Attributes found, or NULL if the DOM is not supported
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private static List<Node> attributes(final List<Node> elements,
+        final SimplePath.Step step, final String uri) {
+        final List<Node> found = new ArrayList<>(elements.size());
+        boolean supported = true;
+        for (int idx = 0; supported && idx < elements.size(); ++idx) {
+            final NamedNodeMap attrs = elements.get(idx).getAttributes();
+            for (int pos = 0; supported && attrs != null && pos < attrs.getLength(); ++pos) {
+                final Node attr = attrs.item(pos);
+                final String local = attr.getLocalName();
+                supported = local != null;
+                if (supported
+                    && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI())
+                    && DomWalk.matches(step, uri, attr.getNamespaceURI(), local)) {
+                    found.add(attr);
+                }
+            }
+        }
+        List<Node> result = null;
+        if (supported) {
+            result = found;
+        }
+        return result;
+    }
+
+    /**
+     * Child text nodes of the elements, where adjacent ones are
+     * represented by the first of them.
+     * @param elements The elements
+     * @return Text nodes found, or NULL if the DOM is not supported
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private static List<Node> texts(final List<Node> elements) {
+        final List<Node> found = new ArrayList<>(elements.size());
+        boolean supported = true;
+        for (int idx = 0; supported && idx < elements.size(); ++idx) {
+            boolean text = false;
+            Node child = elements.get(idx).getFirstChild();
+            while (supported && child != null) {
+                final short type = child.getNodeType();
+                supported = type != Node.ENTITY_REFERENCE_NODE;
+                final boolean now = type == Node.TEXT_NODE
+                    || type == Node.CDATA_SECTION_NODE;
+                if (now && !text) {
+                    found.add(child);
+                }
+                text = now;
+                child = child.getNextSibling();
+            }
+        }
+        List<Node> result = null;
+        if (supported) {
+            result = found;
+        }
+        return result;
+    }
+
+    /**
+     * Does the node match the step?
+     * @param step The step
+     * @param uri Namespace URI of the step, empty if none
+     * @param namespace Namespace URI of the node, NULL or empty if none
+     * @param local Local name of the node
+     * @return TRUE if matches
+     */
+    private static boolean matches(final SimplePath.Step step, final String uri,
+        final String namespace, final String local) {
+        final String actual;
+        if (namespace == null) {
+            actual = XMLConstants.NULL_NS_URI;
+        } else {
+            actual = namespace;
+        }
+        return step.any()
+            || ("*".equals(step.local()) || step.local().equals(local))
+            && uri.equals(actual);
+    }
+
+    /**
+     * Namespace URI of the step.
+     * @param step The step
+     * @param context Namespace context
+     * @return URI, empty if no prefix, NULL if the prefix is unknown
+     */
+    private static String uri(final SimplePath.Step step,
+        final NamespaceContext context) {
+        String uri = XMLConstants.NULL_NS_URI;
+        if (!step.prefix().isEmpty()) {
+            uri = context.getNamespaceURI(step.prefix());
+            if (uri != null && uri.isEmpty()) {
+                uri = null;
+            }
+        }
+        return uri;
+    }
+
+    /**
+     * The node to start from.
+     *
+     * <p>Only documents and elements are supported as context nodes,
+     * while an absolute path starts from the root, only if it's
+     * a document.
+     *
+     * @param node The context node
+     * @param absolute Whether the path is absolute
+     * @return The node, or NULL if it is not supported
+     */
+    private static Node start(final Node node, final boolean absolute) {
+        Node start = node;
+        if (absolute) {
+            while (start.getParentNode() != null) {
+                start = start.getParentNode();
+            }
+        }
+        final short type = start.getNodeType();
+        if (type != Node.DOCUMENT_NODE && type != Node.ELEMENT_NODE
+            || absolute && type != Node.DOCUMENT_NODE) {
+            start = null;
+        }
+        return start;
+    }
+
+    /**
+     * Parse the query, or take it parsed before.
+     * @param query The query
+     * @return The path
+     */
+    private static SimplePath parsed(final String query) {
+        SimplePath path = DomWalk.PATHS.get(query);
+        if (path == null) {
+            path = new SimplePath(query, true);
+            if (DomWalk.PATHS.size() < DomWalk.MAX) {
+                DomWalk.PATHS.putIfAbsent(query, path);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Nodes found, as {@link NodeList}.
+     *
+     * @since 0.36.0
+     */
+    static final class Found implements NodeList {
+
+        /**
+         * The nodes.
+         */
+        private final List<Node> nodes;
+
+        /**
+         * Ctor.
+         * @param list The nodes
+         */
+        Found(final List<Node> list) {
+            this.nodes = list;
+        }
+
+        @Override
+        public Node item(final int index) {
+            Node item = null;
+            if (index >= 0 && index < this.nodes.size()) {
+                item = this.nodes.get(index);
+            }
+            return item;
+        }
+
+        @Override
+        public int getLength() {
+            return this.nodes.size();
+        }
+    }
+}
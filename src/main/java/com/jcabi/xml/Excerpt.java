@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Beginning of the XML markup of a node, not longer than a limit.
+ *
+ * <p>The node is not serialized as a whole, like
+ * {@link XMLDocument#toString()} does: the DOM is walked only until
+ * the limit is reached, that's why it is cheap even for huge documents.
+ * If the node is not the root, its location is printed first,
+ * like {@code /catalog/item}. The markup is not pretty-printed and
+ * not exactly the same as {@link XMLDocument#toString()} makes, since
+ * it is only for error messages.
+ *
+ * <p>Objects of this class are immutable, but NOT thread-safe,
+ * just like the DOM node.
+ *
+ * @since 0.36.0
+ */
+final class Excerpt {
+
+    /**
+     * Maximum length of the excerpt, in characters, by default.
+     */
+    static final int DEFAULT = Integer.getInteger("com.jcabi.xml.excerpt", 1024);
+
+    /**
+     * The node.
+     */
+    private final transient Node node;
+
+    /**
+     * Maximum length.
+     */
+    private final transient int max;
+
+    /**
+     * Ctor.
+     * @param src The node
+     * @param limit Maximum length, in characters
+     */
+    Excerpt(final Node src, final int limit) {
+        this.node = src;
+        this.max = limit;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder out = new StringBuilder(Math.min(this.max, 256) + 3);
+        final Node parent = Excerpt.parent(this.node);
+        if (parent != null && parent.getNodeType() == Node.ELEMENT_NODE) {
+            out.append(Excerpt.location(this.node)).append(": ");
+        }
+        this.append(out, this.node);
+        if (out.length() > this.max) {
+            out.setLength(this.max);
+            out.append("...");
+        }
+        return out.toString();
+    }
+
+    /**
+     * Append markup of the node, until the limit is reached.
+     * @param out Where to append
+     * @param src The node
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private void append(final StringBuilder out, final Node src) {
+        final short type = src.getNodeType();
+        if (type == Node.ELEMENT_NODE) {
+            out.append('<').append(src.getNodeName());
+            final NamedNodeMap attrs = src.getAttributes();
+            for (int idx = 0; idx < attrs.getLength() && out.length() <= this.max; ++idx) {
+                final Node attr = attrs.item(idx);
+                out.append(' ').append(attr.getNodeName()).append("=\"");
+                this.escape(out, attr.getNodeValue());
+                out.append('"');
+            }
+            if (src.hasChildNodes()) {
+                out.append('>');
+                this.children(out, src);
+                out.append("</").append(src.getNodeName()).append('>');
+            } else {
+                out.append("/>");
+            }
+        } else if (type == Node.TEXT_NODE) {
+            this.escape(out, src.getNodeValue());
+        } else if (type == Node.CDATA_SECTION_NODE) {
+            out.append("<![CDATA[");
+            this.plain(out, src.getNodeValue());
+            out.append("]]>");
+        } else if (type == Node.COMMENT_NODE) {
+            out.append("<!--");
+            this.plain(out, src.getNodeValue());
+            out.append("-->");
+        } else if (type == Node.PROCESSING_INSTRUCTION_NODE) {
+            out.append("<?").append(src.getNodeName()).append(' ');
+            this.plain(out, src.getNodeValue());
+            out.append("?>");
+        } else if (type == Node.ATTRIBUTE_NODE) {
+            out.append('@').append(src.getNodeName()).append("=\"");
+            this.escape(out, src.getNodeValue());
+            out.append('"');
+        } else {
+            this.children(out, src);
+        }
+    }
+
+    /**
+     * Append markup of child nodes, until the limit is reached.
+     * @param out Where to append
+     * @param src The parent node
+     */
+    private void children(final StringBuilder out, final Node src) {
+        for (Node child = src.getFirstChild(); child != null && out.length() <= this.max;
+            child = child.getNextSibling()) {
+            this.append(out, child);
+        }
+    }
+
+    /**
+     * Location of the node in its document, by names of its ancestors.
+     * @param src The node
+     * @return Location, like {@code /catalog/item}
+     */
+    private static String location(final Node src) {
+        final StringBuilder path = new StringBuilder(0);
+        Node current = src;
+        while (current != null && current.getNodeType() != Node.DOCUMENT_NODE) {
+            if (current.getNodeType() == Node.ATTRIBUTE_NODE) {
+                path.insert(0, current.getNodeName()).insert(0, "/@");
+            } else {
+                path.insert(0, current.getNodeName()).insert(0, '/');
+            }
+            current = Excerpt.parent(current);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Parent of the node, or owner element of the attribute.
+     * @param src The node
+     * @return Parent, or NULL if none
+     */
+    private static Node parent(final Node src) {
+        final Node parent;
+        if (src.getNodeType() == Node.ATTRIBUTE_NODE) {
+            parent = ((Attr) src).getOwnerElement();
+        } else {
+            parent = src.getParentNode();
+        }
+        return parent;
+    }
+
+    /**
+     * Append text as is, until the limit is reached.
+     * @param out Where to append
+     * @param text The text
+     */
+    private void plain(final StringBuilder out, final String text) {
+        out.append(text, 0, Math.max(0, Math.min(text.length(), this.max - out.length() + 1)));
+    }
+
+    /**
+     * Append text, escaping markup characters, until the limit is reached.
+     * @param out Where to append
+     * @param text The text
+     */
+    private void escape(final StringBuilder out, final String text) {
+        for (int idx = 0; idx < text.length() && out.length() <= this.max; ++idx) {
+            final char chr = text.charAt(idx);
+            if (chr == '<') {
+                out.append("&lt;");
+            } else if (chr == '&') {
+                out.append("&amp;");
+            } else if (chr == '"') {
+                out.append("&quot;");
+            } else {
+                out.append(chr);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Prepared set of XPath queries, to be evaluated on many documents.
+ *
+ * <p>The queries are compiled once, in the constructor, and then
+ * evaluated on every document given, while the document is locked
+ * once for all of them, for example:
+ *
+ * <pre> Map&lt;String, String&gt; queries = new LinkedHashMap&lt;&gt;();
+ * queries.put("id", "/record/@id");
+ * queries.put("title", "/record/title/text()");
+ * Extractor extractor = new Extractor(queries);
+ * for (XML record : records) {
+ *   Map&lt;String, List&lt;String&gt;&gt; fields = extractor.extract(record);
+ * }</pre>
+ *
+ * <p>Every query is evaluated exactly as {@link XML#xpath(String)} does
+ * it, by the engine installed, see {@link XPathEngine#install(XPathEngine)},
+ * when the extractor is made. Namespace prefixes are resolved by the context given to the
+ * constructor, not by the prefixes registered in documents. Only
+ * documents backed by DOM are supported, like {@link XMLDocument}.
+ *
+ * <p>Compiled XPath expressions are not thread-safe, that's why every
+ * thread takes its own set of them from a pool, just like
+ * {@link BuilderPool} does with builders.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+public final class Extractor {
+
+    /**
+     * Names of queries.
+     */
+    private final transient List<String> names;
+
+    /**
+     * Queries.
+     */
+    private final transient List<String> queries;
+
+    /**
+     * Namespace context.
+     */
+    private final transient NamespaceContext context;
+
+    /**
+     * XPath engine.
+     */
+    private final transient XPathEngine engine;
+
+    /**
+     * Idle sets of compiled expressions.
+     */
+    private final transient Queue<XPathExpression[]> idle;
+
+    /**
+     * Ctor, with default namespace context.
+     * @param map XPath queries, by names
+     */
+    public Extractor(final Map<String, String> map) {
+        this(map, new XPathContext());
+    }
+
+    /**
+     * Ctor.
+     * @param map XPath queries, by names
+     * @param ctx Namespace context
+     */
+    public Extractor(final Map<String, String> map, final NamespaceContext ctx) {
+        this.names = Collections.unmodifiableList(new ArrayList<>(map.keySet()));
+        this.queries = Collections.unmodifiableList(new ArrayList<>(map.values()));
+        this.context = ctx;
+        this.engine = XPathEngine.installed();
+        this.idle = new ConcurrentLinkedQueue<>();
+        this.idle.offer(this.compile());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d quer(ies): %s", this.names.size(), this.names);
+    }
+
+    /**
+     * Evaluate all queries on the document.
+     * @param xml The document
+     * @return Results, by names of queries, in the same order
+     */
+    public Map<String, List<String>> extract(final XML xml) {
+        XPathExpression[] exprs = this.idle.poll();
+        if (exprs == null) {
+            exprs = this.compile();
+        }
+        try {
+            final Node node = xml.inner();
+            final Map<String, List<String>> result;
+            if (node instanceof CompactNode) {
+                result = this.evaluate(exprs, node);
+            } else {
+                synchronized (XMLDocument.lock(node)) {
+                    result = this.evaluate(exprs, node);
+                }
+            }
+            return result;
+        } finally {
+            this.idle.offer(exprs);
+        }
+    }
+
+    /**
+     * Evaluate all expressions on the node.
+     * @param exprs Compiled expressions
+     * @param node The node
+     * @return Results, by names
+     */
+    private Map<String, List<String>> evaluate(final XPathExpression[] exprs,
+        final Node node) {
+        final Map<String, List<String>> result = new LinkedHashMap<>(exprs.length);
+        for (int idx = 0; idx < exprs.length; ++idx) {
+            final String query = this.queries.get(idx);
+            final Probe probe = new Probe("xpath");
+            List<String> items;
+            try {
+                items = XMLDocument.texts(
+                    LazyList.array(
+                        (NodeList) exprs[idx].evaluate(node, XPathConstants.NODESET)
+                    ),
+                    query
+                );
+            } catch (final XPathExpressionException ex) {
+                try {
+                    items = Collections.singletonList(
+                        (String) exprs[idx].evaluate(node, XPathConstants.STRING)
+                    );
+                } catch (final XPathExpressionException exp) {
+                    probe.failed();
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Can't evaluate XPath query '%s': %s",
+                            query, ex.getLocalizedMessage()
+                        ),
+                        exp
+                    );
+                }
+            }
+            probe.done(0L);
+            result.put(this.names.get(idx), new ListWrapper<>(items, node, query));
+        }
+        return result;
+    }
+
+    /**
+     * Compile all queries.
+     * @return Compiled expressions, in the order of queries
+     */
+    private XPathExpression[] compile() {
+        final XPath xpath = this.engine.cache().xpath();
+        xpath.setNamespaceContext(this.context);
+        final XPathExpression[] exprs = new XPathExpression[this.queries.size()];
+        for (int idx = 0; idx < exprs.length; ++idx) {
+            try {
+                exprs[idx] = xpath.compile(this.queries.get(idx));
+            } catch (final XPathExpressionException ex) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Invalid XPath query '%s' named '%s'",
+                        this.queries.get(idx), this.names.get(idx)
+                    ),
+                    ex
+                );
+            }
+        }
+        return exprs;
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import javax.xml.namespace.NamespaceContext;
+import org.w3c.dom.Node;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.SAXParseException;
+
+/**
+ * {@link XML} in a file, which is parsed again when the file changes.
+ *
+ * <p>The file is parsed on the first call to any method. After that,
+ * not more often than once in the given interval, its size and
+ * modification time are checked, and if any of them changed, the file
+ * is parsed again, by the thread that noticed the change. The new
+ * document replaces the old one atomically: other readers don't wait
+ * for parsing and never see a document parsed partially. If the
+ * modified file can't be parsed, for example because it is still being
+ * written, the old document stays and the file is parsed again after
+ * the next interval:
+ *
+ * <pre> XML rules = new FileXML(Paths.get("rules.xml"));
+ * // many times later, in many threads
+ * rules.xpath("/rules/rule[@id='42']/@action");</pre>
+ *
+ * <p>Documents returned by {@link #registerNs(String, Object)} and
+ * {@link #merge(NamespaceContext)} stay bound to the file too, while
+ * nodes returned by {@link #nodes(String)} belong to the version of
+ * the document that was the latest at the time of the call.
+ * Documents are parsed into a compact read-only DOM,
+ * see {@link XMLDocument#compact(Path)}.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class FileXML implements XML {
+
+    /**
+     * The file and its latest document.
+     */
+    private final transient FileXML.Latest latest;
+
+    /**
+     * What to do with the latest document before using it.
+     */
+    private final transient Function<XML, XML> view;
+
+    /**
+     * Ctor, checking the file not more often than once a second.
+     * @param file The file
+     */
+    public FileXML(final Path file) {
+        this(file, TimeUnit.SECONDS.toMillis(1L));
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param millis How often to check the file, in milliseconds, zero
+     *  to check it on every call
+     */
+    public FileXML(final Path file, final long millis) {
+        this(new FileXML.Latest(file, millis), Function.identity());
+    }
+
+    /**
+     * Private ctor.
+     * @param ltst The file and its latest document
+     * @param func What to do with the latest document
+     */
+    private FileXML(final FileXML.Latest ltst, final Function<XML, XML> func) {
+        this.latest = ltst;
+        this.view = func;
+    }
+
+    @Override
+    public String toString() {
+        return this.xml().toString();
+    }
+
+    @Override
+    public List<String> xpath(final String query) {
+        return this.xml().xpath(query);
+    }
+
+    @Override
+    public List<XML> nodes(final String query) {
+        return this.xml().nodes(query);
+    }
+
+    @Override
+    public Stream<XML> stream(final String query) {
+        return this.xml().stream(query);
+    }
+
+    @Override
+    public String first(final String query) {
+        return this.xml().first(query);
+    }
+
+    @Override
+    public boolean exists(final String query) {
+        return this.xml().exists(query);
+    }
+
+    @Override
+    public double number(final String query) {
+        return this.xml().number(query);
+    }
+
+    @Override
+    public boolean bool(final String query) {
+        return this.xml().bool(query);
+    }
+
+    @Override
+    public int count(final String query) {
+        return this.xml().count(query);
+    }
+
+    @Override
+    public String string(final String query) {
+        return this.xml().string(query);
+    }
+
+    @Override
+    public Map<String, List<String>> extract(final Map<String, String> queries) {
+        return this.xml().extract(queries);
+    }
+
+    @Override
+    public XML registerNs(final String prefix, final Object uri) {
+        return new FileXML(
+            this.latest, this.view.andThen(xml -> xml.registerNs(prefix, uri))
+        );
+    }
+
+    @Override
+    public XML merge(final NamespaceContext context) {
+        return new FileXML(
+            this.latest, this.view.andThen(xml -> xml.merge(context))
+        );
+    }
+
+    /**
+     * Retrieve DOM node, represented by this wrapper.
+     * This method works exactly the same as {@link #deepCopy()}.
+     * @return Deep copy of the inner DOM node.
+     * @deprecated Use {@link #inner()} or {@link #deepCopy()} instead.
+     * @checkstyle NoJavadocForOverriddenMethodsCheck (5 lines)
+     */
+    @Deprecated
+    @Override
+    public Node node() {
+        return this.xml().deepCopy();
+    }
+
+    @Override
+    public Node inner() {
+        return this.xml().inner();
+    }
+
+    @Override
+    public Node deepCopy() {
+        return this.xml().deepCopy();
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final LSResourceResolver resolver) {
+        return this.xml().validate(resolver);
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final XML xsd) {
+        return this.xml().validate(xsd);
+    }
+
+    /**
+     * The latest document, as we see it.
+     * @return The document
+     */
+    private XML xml() {
+        return this.view.apply(this.latest.xml());
+    }
+
+    /**
+     * The file and its latest document.
+     *
+     * @since 0.36.0
+     */
+    private static final class Latest {
+
+        /**
+         * The file.
+         */
+        private final Path file;
+
+        /**
+         * How often to check the file, in nanoseconds.
+         */
+        private final long interval;
+
+        /**
+         * The latest version, NULL until parsed for the first time.
+         */
+        private final AtomicReference<FileXML.Version> current;
+
+        /**
+         * Whether the file is being checked by some thread.
+         */
+        private final AtomicBoolean busy;
+
+        /**
+         * Ctor.
+         * @param path The file
+         * @param millis How often to check the file, in milliseconds
+         */
+        Latest(final Path path, final long millis) {
+            if (millis < 0L) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Interval of checking '%s' must not be negative: %d",
+                        path, millis
+                    )
+                );
+            }
+            this.file = path;
+            this.interval = TimeUnit.MILLISECONDS.toNanos(millis);
+            this.current = new AtomicReference<>();
+            this.busy = new AtomicBoolean();
+        }
+
+        /**
+         * The latest document, checking the file if it's time.
+         *
+         * <p>Only the first call waits for parsing, all others get
+         * the document parsed before, while one of them checks the file.
+         *
+         * @return The document
+         */
+        XML xml() {
+            FileXML.Version ver = this.current.get();
+            if (ver == null) {
+                this.current.compareAndSet(null, this.parse());
+                ver = this.current.get();
+            } else if (System.nanoTime() - ver.checked >= this.interval
+                && this.busy.compareAndSet(false, true)) {
+                try {
+                    this.current.set(this.refresh(ver));
+                } finally {
+                    this.busy.set(false);
+                }
+                ver = this.current.get();
+            }
+            return ver.xml;
+        }
+
+        /**
+         * Check the file and parse it again, if it changed.
+         * @param ver The version we have now
+         * @return The new version or the same one, checked now
+         */
+        private FileXML.Version refresh(final FileXML.Version ver) {
+            FileXML.Version next;
+            try {
+                if (this.stamp().equals(ver.stamp)) {
+                    next = ver.touched(System.nanoTime());
+                } else {
+                    next = this.parse();
+                }
+            } catch (final IllegalArgumentException ex) {
+                Logger.warn(
+                    this, "Can't parse modified %s, keeping the previous version: %s",
+                    this.file, ex.getMessage()
+                );
+                next = ver.touched(System.nanoTime());
+            }
+            return next;
+        }
+
+        /**
+         * Parse the file.
+         * @return New version
+         */
+        private FileXML.Version parse() {
+            final String stamp = this.stamp();
+            return new FileXML.Version(
+                stamp, XMLDocument.compact(this.file), System.nanoTime()
+            );
+        }
+
+        /**
+         * Size and modification time of the file.
+         * @return Stamp
+         */
+        private String stamp() {
+            try {
+                return String.format(
+                    "%d:%d", Files.size(this.file),
+                    Files.getLastModifiedTime(this.file).toMillis()
+                );
+            } catch (final IOException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Can't read attributes of %s", this.file),
+                    ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Parsed version of the file.
+     *
+     * @since 0.36.0
+     */
+    private static final class Version {
+
+        /**
+         * Size and modification time of the file.
+         */
+        private final String stamp;
+
+        /**
+         * The document.
+         */
+        private final XML xml;
+
+        /**
+         * When the file was checked last time, in nanoseconds.
+         */
+        private final long checked;
+
+        /**
+         * Ctor.
+         * @param stmp Size and modification time of the file
+         * @param doc The document
+         * @param nano When the file was checked
+         */
+        Version(final String stmp, final XML doc, final long nano) {
+            this.stamp = stmp;
+            this.xml = doc;
+            this.checked = nano;
+        }
+
+        /**
+         * The same version, checked again.
+         * @param nano When the file was checked
+         * @return New version
+         */
+        FileXML.Version touched(final long nano) {
+            return new FileXML.Version(this.stamp, this.xml, nano);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.AbstractList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Read-only list of nodes, turned into items on demand.
+ *
+ * <p>Only references to the nodes found are copied, while strings or
+ * {@link XML} wrappers are made when they are requested for the first
+ * time, and then kept. Thus, {@code xpath(..).get(0)} makes one string,
+ * no matter how many nodes are found.
+ *
+ * <p>Objects of this class are thread-safe, if the function is.
+ *
+ * @param <T> Type of items
+ * @since 0.36.0
+ */
+final class LazyList<T> extends AbstractList<T> {
+
+    /**
+     * The nodes.
+     */
+    private final transient Node[] nodes;
+
+    /**
+     * How to turn a node into an item.
+     */
+    private final transient Function<Node, T> func;
+
+    /**
+     * Items made so far.
+     */
+    private final transient AtomicReferenceArray<T> items;
+
+    /**
+     * Ctor.
+     * @param list The nodes
+     * @param fnc How to turn a node into an item
+     */
+    LazyList(final NodeList list, final Function<Node, T> fnc) {
+        this(LazyList.array(list), fnc);
+    }
+
+    /**
+     * Ctor.
+     * @param array The nodes
+     * @param fnc How to turn a node into an item
+     */
+    LazyList(final Node[] array, final Function<Node, T> fnc) {
+        super();
+        this.nodes = array;
+        this.func = fnc;
+        this.items = new AtomicReferenceArray<>(array.length);
+    }
+
+    @Override
+    public T get(final int index) {
+        T item = this.items.get(index);
+        if (item == null) {
+            item = this.func.apply(this.nodes[index]);
+            this.items.lazySet(index, item);
+        }
+        return item;
+    }
+
+    @Override
+    public int size() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Copy references to the nodes.
+     * @param list The nodes
+     * @return Array of them
+     */
+    static Node[] array(final NodeList list) {
+        final Node[] array = new Node[list.getLength()];
+        for (int idx = 0; idx < array.length; ++idx) {
+            array[idx] = list.item(idx);
+        }
+        return array;
+    }
+}
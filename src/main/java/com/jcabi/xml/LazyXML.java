@@ -0,0 +1,242 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.xml.namespace.NamespaceContext;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Node;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Lazy {@link XML}, which doesn't parse its content until it is queried.
+ *
+ * <p>The DOM is built by {@link XMLDocument} on the first call to any
+ * method, except {@link #toString()}. The {@link #toString()} always
+ * returns the original text, exactly as it was given, without parsing
+ * and re-serializing it. This is useful when XML documents are mostly
+ * passed through untouched:
+ *
+ * <pre> XML xml = new LazyXML(bytes);
+ * if (route.matches(header)) {
+ *   forward(xml.toString());
+ * } else {
+ *   process(xml.xpath("/order/@id").get(0));
+ * }</pre>
+ *
+ * <p>Since nothing is parsed in the constructor, broken XML is
+ * not detected until the document is queried.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class LazyXML implements XML {
+
+    /**
+     * Encoding in the XML declaration.
+     */
+    private static final Pattern ENCODING = Pattern.compile(
+        "^<\\?xml[^>]+encoding\\s*=\\s*[\"']([A-Za-z0-9._:-]+)[\"']"
+    );
+
+    /**
+     * Original text of the document.
+     */
+    private final transient Unchecked<String> text;
+
+    /**
+     * Parsed document.
+     */
+    private final transient Unchecked<XML> origin;
+
+    /**
+     * Public ctor.
+     * @param txt XML document body
+     */
+    public LazyXML(final String txt) {
+        this(() -> txt, () -> new XMLDocument(txt));
+    }
+
+    /**
+     * Public ctor.
+     *
+     * <p>The encoding of the bytes is detected from the byte order mark
+     * or the XML declaration, UTF-8 is used by default.
+     *
+     * @param data XML document body
+     */
+    public LazyXML(final byte[] data) {
+        this(() -> LazyXML.decode(data), () -> new XMLDocument(data));
+    }
+
+    /**
+     * Private ctor.
+     * @param txt Original text
+     * @param xml Parser of the document
+     */
+    private LazyXML(final Scalar<String> txt, final Scalar<XML> xml) {
+        this.text = new Unchecked<>(new Synced<>(new Sticky<>(txt)));
+        this.origin = new Unchecked<>(new Synced<>(new Sticky<>(xml)));
+    }
+
+    @Override
+    public String toString() {
+        return this.text.value();
+    }
+
+    @Override
+    public List<String> xpath(final String query) {
+        return this.origin.value().xpath(query);
+    }
+
+    @Override
+    public List<XML> nodes(final String query) {
+        return this.origin.value().nodes(query);
+    }
+
+    @Override
+    public Stream<XML> stream(final String query) {
+        return this.origin.value().stream(query);
+    }
+
+    @Override
+    public String first(final String query) {
+        return this.origin.value().first(query);
+    }
+
+    @Override
+    public boolean exists(final String query) {
+        return this.origin.value().exists(query);
+    }
+
+    @Override
+    public double number(final String query) {
+        return this.origin.value().number(query);
+    }
+
+    @Override
+    public boolean bool(final String query) {
+        return this.origin.value().bool(query);
+    }
+
+    @Override
+    public int count(final String query) {
+        return this.origin.value().count(query);
+    }
+
+    @Override
+    public String string(final String query) {
+        return this.origin.value().string(query);
+    }
+
+    @Override
+    public Map<String, List<String>> extract(final Map<String, String> queries) {
+        return this.origin.value().extract(queries);
+    }
+
+    @Override
+    public XML registerNs(final String prefix, final Object uri) {
+        return this.origin.value().registerNs(prefix, uri);
+    }
+
+    @Override
+    public XML merge(final NamespaceContext context) {
+        return this.origin.value().merge(context);
+    }
+
+    /**
+     * Retrieve DOM node, represented by this wrapper.
+     * This method works exactly the same as {@link #deepCopy()}.
+     * @return Deep copy of the inner DOM node.
+     * @deprecated Use {@link #inner()} or {@link #deepCopy()} instead.
+     * @checkstyle NoJavadocForOverriddenMethodsCheck (5 lines)
+     */
+    @Deprecated
+    @Override
+    public Node node() {
+        return this.origin.value().deepCopy();
+    }
+
+    @Override
+    public Node inner() {
+        return this.origin.value().inner();
+    }
+
+    @Override
+    public Node deepCopy() {
+        return this.origin.value().deepCopy();
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final LSResourceResolver resolver) {
+        return this.origin.value().validate(resolver);
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final XML xsd) {
+        return this.origin.value().validate(xsd);
+    }
+
+    /**
+     * Decode bytes into text, using the encoding of the document.
+     * @param data The bytes
+     * @return The text
+     */
+    private static String decode(final byte[] data) {
+        final String txt;
+        if (data.length >= 3 && (data[0] & 0xFF) == 0xEF
+            && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF) {
+            txt = new String(data, 3, data.length - 3, StandardCharsets.UTF_8);
+        } else if (data.length >= 2 && (data[0] & 0xFF) == 0xFE
+            && (data[1] & 0xFF) == 0xFF
+            || data.length >= 2 && (data[0] & 0xFF) == 0xFF
+            && (data[1] & 0xFF) == 0xFE) {
+            txt = new String(data, StandardCharsets.UTF_16);
+        } else {
+            txt = new String(data, LazyXML.declared(data));
+        }
+        return txt;
+    }
+
+    /**
+     * Find the encoding in the XML declaration.
+     * @param data The bytes
+     * @return The encoding declared, or UTF-8 if none
+     */
+    private static Charset declared(final byte[] data) {
+        final Matcher matcher = LazyXML.ENCODING.matcher(
+            new String(
+                data, 0, Math.min(data.length, 128),
+                StandardCharsets.ISO_8859_1
+            )
+        );
+        Charset charset = StandardCharsets.UTF_8;
+        if (matcher.find()) {
+            try {
+                charset = Charset.forName(matcher.group(1));
+            } catch (final IllegalCharsetNameException
+                | UnsupportedCharsetException ex) {
+                charset = StandardCharsets.UTF_8;
+            }
+        }
+        return charset;
+    }
+}
@@ -4,7 +4,6 @@
  */
 package com.jcabi.xml;
 
-import com.jcabi.log.Logger;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -30,7 +29,7 @@ import org.w3c.dom.Node;
  *
  * <p>This snippet is trying to get a text value from XML element, and there
  * is no guarantee that such an element exists in the document. In order to give
- * a detailed report to the user of the problem (including a full content of
+ * a detailed report to the user of the problem (including an excerpt of
  * the XML document) we're returning {@link ListWrapper} from
  * {@link XMLDocument#xpath(String)}. The only method that we implement
  * for this purpose is {@link #get(int)}.
@@ -249,15 +248,49 @@ final class ListWrapper<T> implements List<T> {
     /**
      * Node not found in XmlDocument.
      *
+     * <p>The message is rendered only when it is requested for the first
+     * time, by {@link #getMessage()}, and it contains only an excerpt of the
+     * document, see {@link Excerpt}, not longer than
+     * {@link Excerpt#DEFAULT} characters, which may be changed by
+     * the {@code com.jcabi.xml.excerpt} system property. Thus, a miss
+     * is cheap, even if it is caught and ignored in a loop over a huge
+     * document. The excerpt is kept then, while the document is not.
+     *
      * @since 0.1
      */
-    private static final class NodeNotFoundException
+    static final class NodeNotFoundException
         extends IndexOutOfBoundsException {
         /**
          * Serialization marker.
          */
         private static final long serialVersionUID = 0x7526FA78EEDAC470L;
 
+        /**
+         * Error message.
+         */
+        private final String reason;
+
+        /**
+         * The XML with error, NULL after the excerpt is rendered
+         * and after deserialization.
+         */
+        private transient Node node;
+
+        /**
+         * Excerpt of the XML, NULL until it is rendered.
+         */
+        private String excerpt;
+
+        /**
+         * The query in XPath.
+         */
+        private final String query;
+
+        /**
+         * Maximum length of the excerpt.
+         */
+        private final int limit;
+
         /**
          * Public ctor.
          * @param message Error message
@@ -266,18 +299,64 @@ final class ListWrapper<T> implements List<T> {
          */
         NodeNotFoundException(final String message, final Node node,
             final CharSequence query) {
-            super(
-                Logger.format(
-                    "XPath '%s' not found in '%[text]s': %s",
-                    ListWrapper.NodeNotFoundException.escapeUnicode(query),
-                    ListWrapper.NodeNotFoundException.escapeUnicode(
-                        new XMLDocument(node).toString()
-                ),
-                    message
-            )
+            this(message, node, query, Excerpt.DEFAULT);
+        }
+
+        /**
+         * Ctor.
+         * @param message Error message
+         * @param node The XML with error
+         * @param query The query in XPath
+         * @param max Maximum length of the excerpt of the XML, in characters
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        NodeNotFoundException(final String message, final Node node,
+            final CharSequence query, final int max) {
+            super();
+            this.reason = message;
+            this.node = node;
+            this.query = query.toString();
+            this.limit = max;
+        }
+
+        @Override
+        public String getMessage() {
+            return String.format(
+                "XPath '%s' not found in '%s': %s",
+                ListWrapper.NodeNotFoundException.escapeUnicode(this.query),
+                ListWrapper.NodeNotFoundException.escapeUnicode(this.excerpt()),
+                this.reason
             );
         }
 
+        /**
+         * Render the excerpt of the XML, only once.
+         *
+         * <p>The DOM is read under the lock of its document, since it's not
+         * thread-safe, and then the reference to it is dropped, so that
+         * the exception doesn't keep the document in memory.
+         *
+         * @return The excerpt
+         */
+        @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+        private String excerpt() {
+            synchronized (this) {
+                if (this.excerpt == null) {
+                    if (this.node == null) {
+                        this.excerpt = "";
+                    } else if (this.node instanceof CompactNode) {
+                        this.excerpt = new Excerpt(this.node, this.limit).toString();
+                    } else {
+                        synchronized (XMLDocument.lock(this.node)) {
+                            this.excerpt = new Excerpt(this.node, this.limit).toString();
+                        }
+                    }
+                    this.node = null;
+                }
+                return this.excerpt;
+            }
+        }
+
         /**
          * Escape unicode characters.
          * @param input Input string
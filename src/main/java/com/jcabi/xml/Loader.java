@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+
+/**
+ * Loader of documents in background.
+ *
+ * <p>Fetching and parsing a document may block for a long time,
+ * on network or disk. The loader does it in an executor and
+ * returns a future, which is completed with the document, or
+ * exceptionally, with the exception thrown while loading.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class Loader {
+
+    /**
+     * Default executor: virtual threads, if the JVM has them (Java 21+),
+     * or an unbounded pool of daemon threads otherwise, since the
+     * tasks mostly wait for I/O.
+     */
+    static final Executor DEFAULT = Loader.executor();
+
+    /**
+     * The executor.
+     */
+    private final Executor exec;
+
+    /**
+     * Ctor.
+     * @param executor The executor
+     */
+    Loader(final Executor executor) {
+        this.exec = executor;
+    }
+
+    /**
+     * Load in background.
+     * @param scalar What loads the document
+     * @param <T> Type of document
+     * @return The future
+     */
+    <T> CompletableFuture<T> load(final Scalar<T> scalar) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return scalar.value();
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    throw new CompletionException(ex);
+                }
+            },
+            this.exec
+        );
+    }
+
+    /**
+     * Make the default executor.
+     * @return The executor
+     */
+    private static Executor executor() {
+        Executor exec;
+        try {
+            exec = (Executor) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException
+            | InvocationTargetException ex) {
+            final AtomicInteger count = new AtomicInteger();
+            exec = Executors.newCachedThreadPool(
+                runnable -> {
+                    final Thread thread = new Thread(
+                        runnable,
+                        String.format("jcabi-xml-loader-%d", count.incrementAndGet())
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
+        return exec;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics, kept in memory.
+ *
+ * <p>For every operation, it counts successes and failures, total time
+ * and bytes, and keeps a histogram of times, with buckets of powers
+ * of two nanoseconds. All of them can be read at any moment, for example
+ * to be exposed to a monitoring system:
+ *
+ * <pre> for (Map.Entry&lt;String, Long&gt; ent : metrics.snapshot().entrySet()) {
+ *   gauge(ent.getKey()).set(ent.getValue());
+ * }</pre>
+ *
+ * <p>Objects of this class are thread-safe and lock-free.
+ *
+ * @since 0.36.0
+ */
+public final class MemoryMetrics implements Metrics {
+
+    /**
+     * Statistics of operations, by their names.
+     */
+    private final ConcurrentMap<String, MemoryMetrics.Stat> stats;
+
+    /**
+     * Ctor.
+     */
+    public MemoryMetrics() {
+        this.stats = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(0);
+        for (final String operation : new TreeMap<>(this.stats).keySet()) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(
+                String.format(
+                    "%s: %d done, %d failed, %d bytes, p99 < %d ns",
+                    operation, this.count(operation), this.failures(operation),
+                    this.bytes(operation), this.quantile(operation, 0.99)
+                )
+            );
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void done(final String operation, final long nanos,
+        final long bytes) {
+        final MemoryMetrics.Stat stat = this.stat(operation);
+        stat.done.increment();
+        stat.bytes.add(bytes);
+        stat.record(nanos);
+    }
+
+    @Override
+    public void failed(final String operation, final long nanos) {
+        final MemoryMetrics.Stat stat = this.stat(operation);
+        stat.failed.increment();
+        stat.record(nanos);
+    }
+
+    /**
+     * How many operations finished successfully.
+     * @param operation Name of the operation
+     * @return Number of operations
+     */
+    public long count(final String operation) {
+        return this.find(operation).done.sum();
+    }
+
+    /**
+     * How many operations failed.
+     * @param operation Name of the operation
+     * @return Number of operations
+     */
+    public long failures(final String operation) {
+        return this.find(operation).failed.sum();
+    }
+
+    /**
+     * Total time of all operations, successful and failed.
+     * @param operation Name of the operation
+     * @return Time in nanoseconds
+     */
+    public long nanos(final String operation) {
+        return this.find(operation).nanos.sum();
+    }
+
+    /**
+     * Total bytes processed by successful operations.
+     * @param operation Name of the operation
+     * @return Number of bytes
+     */
+    public long bytes(final String operation) {
+        return this.find(operation).bytes.sum();
+    }
+
+    /**
+     * Time, which the given share of operations didn't exceed.
+     *
+     * <p>Since the histogram has buckets of powers of two, the result
+     * is the upper bound of the bucket, not more than twice bigger than
+     * the real value.
+     *
+     * @param operation Name of the operation
+     * @param share The share, like 0.99 for the 99th percentile
+     * @return Time in nanoseconds, zero if there were no operations
+     */
+    public long quantile(final String operation, final double share) {
+        if (share < 0.0 || share > 1.0) {
+            throw new IllegalArgumentException(
+                String.format("Share must be between 0 and 1: %f", share)
+            );
+        }
+        final AtomicLongArray buckets = this.find(operation).buckets;
+        long total = 0L;
+        for (int idx = 0; idx < buckets.length(); ++idx) {
+            total += buckets.get(idx);
+        }
+        final long needed = (long) Math.ceil(total * share);
+        long seen = 0L;
+        long bound = 0L;
+        for (int idx = 0; idx < buckets.length() && total > 0L; ++idx) {
+            seen += buckets.get(idx);
+            if (seen >= needed) {
+                bound = (1L << idx) - 1L;
+                break;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * All metrics, with names like {@code parse.count}, {@code parse.failures},
+     * {@code parse.nanos}, {@code parse.bytes}, {@code parse.p50}
+     * and {@code parse.p99}.
+     * @return Values by names, sorted
+     */
+    public Map<String, Long> snapshot() {
+        final Map<String, Long> map = new TreeMap<>();
+        for (final String operation : this.stats.keySet()) {
+            map.put(String.format("%s.count", operation), this.count(operation));
+            map.put(String.format("%s.failures", operation), this.failures(operation));
+            map.put(String.format("%s.nanos", operation), this.nanos(operation));
+            map.put(String.format("%s.bytes", operation), this.bytes(operation));
+            map.put(String.format("%s.p50", operation), this.quantile(operation, 0.5));
+            map.put(String.format("%s.p99", operation), this.quantile(operation, 0.99));
+        }
+        return map;
+    }
+
+    /**
+     * Statistics of the operation, creating them if necessary.
+     * @param operation Name of the operation
+     * @return Statistics
+     */
+    private MemoryMetrics.Stat stat(final String operation) {
+        MemoryMetrics.Stat stat = this.stats.get(operation);
+        if (stat == null) {
+            stat = this.stats.computeIfAbsent(operation, key -> new MemoryMetrics.Stat());
+        }
+        return stat;
+    }
+
+    /**
+     * Statistics of the operation, or empty ones.
+     * @param operation Name of the operation
+     * @return Statistics
+     */
+    private MemoryMetrics.Stat find(final String operation) {
+        return this.stats.getOrDefault(operation, MemoryMetrics.Stat.EMPTY);
+    }
+
+    /**
+     * Statistics of one operation.
+     *
+     * @since 0.36.0
+     */
+    private static final class Stat {
+
+        /**
+         * No statistics.
+         */
+        private static final MemoryMetrics.Stat EMPTY = new MemoryMetrics.Stat();
+
+        /**
+         * Successful operations.
+         */
+        private final LongAdder done;
+
+        /**
+         * Failed operations.
+         */
+        private final LongAdder failed;
+
+        /**
+         * Total time.
+         */
+        private final LongAdder nanos;
+
+        /**
+         * Total bytes.
+         */
+        private final LongAdder bytes;
+
+        /**
+         * Numbers of operations, by bit length of their times.
+         */
+        private final AtomicLongArray buckets;
+
+        /**
+         * Ctor.
+         */
+        Stat() {
+            this.done = new LongAdder();
+            this.failed = new LongAdder();
+            this.nanos = new LongAdder();
+            this.bytes = new LongAdder();
+            this.buckets = new AtomicLongArray(Long.SIZE);
+        }
+
+        /**
+         * Record time of an operation.
+         * @param time Time in nanoseconds
+         */
+        void record(final long time) {
+            final long positive = Math.max(time, 0L);
+            this.nanos.add(positive);
+            this.buckets.incrementAndGet(
+                Math.min(Long.SIZE - Long.numberOfLeadingZeros(positive), Long.SIZE - 1)
+            );
+        }
+    }
+}
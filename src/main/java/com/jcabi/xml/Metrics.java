@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+/**
+ * Receiver of metrics of XML operations.
+ *
+ * <p>Once installed by {@link XMLMetrics#install(Metrics)}, it is
+ * notified about every operation, when it is finished:
+ *
+ * <ul>
+ *   <li>{@code parse} — parsing of XML into DOM, with the number of
+ *   bytes parsed</li>
+ *   <li>{@code xpath} — evaluation of an XPath query
+ *   by {@link XMLDocument}</li>
+ *   <li>{@code saxon-xpath} — evaluation of an XPath query
+ *   by {@link SaxonDocument}</li>
+ *   <li>{@code validate} — validation of XML by XSD</li>
+ *   <li>{@code transform} — transformation by {@link XSLDocument}</li>
+ * </ul>
+ *
+ * <p>Implementations must be thread-safe and fast, since they are called
+ * by the threads that do the operations. {@link MemoryMetrics} keeps
+ * counters and histograms in memory.
+ *
+ * @since 0.36.0
+ * @checkstyle InterfaceIsType (500 lines)
+ */
+public interface Metrics {
+
+    /**
+     * Metrics that are not collected anywhere.
+     */
+    @SuppressWarnings("PMD.ConstantsInInterface")
+    Metrics NONE = new Metrics() {
+        @Override
+        public void done(final String operation, final long nanos,
+            final long bytes) {
+            // nothing to do
+        }
+
+        @Override
+        public void failed(final String operation, final long nanos) {
+            // nothing to do
+        }
+    };
+
+    /**
+     * The operation is finished successfully.
+     * @param operation Name of the operation, like {@code parse}
+     * @param nanos How long it took, in nanoseconds
+     * @param bytes How many bytes it processed, or zero if unknown
+     */
+    void done(String operation, long nanos, long bytes);
+
+    /**
+     * The operation failed.
+     * @param operation Name of the operation, like {@code parse}
+     * @param nanos How long it took until the failure, in nanoseconds
+     */
+    void failed(String operation, long nanos);
+}
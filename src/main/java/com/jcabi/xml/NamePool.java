@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded pool of names and namespace URIs, shared by documents.
+ *
+ * <p>Documents of the same schema use the same few element names,
+ * attribute names and namespace URIs again and again. This pool keeps
+ * each of them once per JVM and gives it a number, which documents
+ * store instead of the string, see {@link CompactDom}. Since names are
+ * never removed, the pool is bounded: when it is full, {@link #id(String)}
+ * returns {@link CompactDom#NONE} and the document keeps the name
+ * in its own table.
+ *
+ * <p>Lookups of names already in the pool are lock-free, only new names
+ * are added under a lock.
+ *
+ * <p>Objects of this class are thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class NamePool {
+
+    /**
+     * Shared pool, used by {@link DomParser} and {@link XMLDocument}.
+     */
+    static final NamePool DEFAULT = new NamePool(1 << 16);
+
+    /**
+     * Numbers of names.
+     */
+    private final ConcurrentMap<String, Integer> ids;
+
+    /**
+     * Maximum number of names.
+     */
+    private final int capacity;
+
+    /**
+     * Names, by their numbers.
+     */
+    private volatile String[] names;
+
+    /**
+     * How many names are in the pool.
+     */
+    private int total;
+
+    /**
+     * Ctor.
+     * @param max Maximum number of names, zero to keep nothing
+     */
+    NamePool(final int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Capacity of the pool must not be negative: %d", max
+                )
+            );
+        }
+        this.ids = new ConcurrentHashMap<>(0);
+        this.capacity = max;
+        this.names = new String[Math.min(max, 64)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d name(s)", this.size(), this.capacity);
+    }
+
+    /**
+     * How many names are in the pool now.
+     * @return Number of names
+     */
+    int size() {
+        return this.ids.size();
+    }
+
+    /**
+     * Number of the name, adding it to the pool if necessary.
+     * @param name The name
+     * @return The number or {@link CompactDom#NONE} if the pool is full
+     */
+    int id(final String name) {
+        Integer found = this.ids.get(name);
+        if (found == null) {
+            synchronized (this.ids) {
+                found = this.ids.get(name);
+                if (found == null) {
+                    found = this.add(name);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Name by its number.
+     * @param id The number, returned by {@link #id(String)}
+     * @return The name
+     */
+    String name(final int id) {
+        return this.names[id];
+    }
+
+    /**
+     * The same string, but the one kept in the pool, if possible.
+     * @param name The name
+     * @return The name from the pool or the argument, if the pool is full
+     */
+    String intern(final String name) {
+        String same = name;
+        if (name != null) {
+            final int id = this.id(name);
+            if (id != CompactDom.NONE) {
+                same = this.name(id);
+            }
+        }
+        return same;
+    }
+
+    /**
+     * Add new name, under the lock.
+     * @param name The name
+     * @return Its number or {@link CompactDom#NONE} if the pool is full
+     */
+    private int add(final String name) {
+        int id = CompactDom.NONE;
+        if (this.total < this.capacity) {
+            String[] array = this.names;
+            if (this.total == array.length) {
+                array = Arrays.copyOf(
+                    array, Math.min(this.capacity, array.length << 1)
+                );
+            }
+            id = this.total;
+            array[id] = name;
+            this.names = array;
+            this.ids.put(name, id);
+            ++this.total;
+        }
+        return id;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.cactoos.Func;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Parallel processing of records of a big XML stream.
+ *
+ * <p>The input is split into records by {@link XMLDocument#split(
+ * InputStream, String, NamespaceContext)}, every record is processed
+ * by the task in the executor, and the results are written to the output
+ * in the original order, wrapped into the root element of the path.
+ * For example,
+ * this is how every entry of a huge feed can be transformed by XSL,
+ * using all cores:
+ *
+ * <pre> XSL xsl = new XSLDocument(...);
+ * new ParallelSplit("/feed/entry", xsl::transform).process(
+ *   Files.newInputStream(Paths.get("huge-feed.xml")),
+ *   Files.newOutputStream(Paths.get("result.xml"))
+ * );</pre>
+ *
+ * <p>No more than {@code window} records are processed or waiting
+ * to be written at any moment, that's why the memory consumed doesn't
+ * depend on the size of the input. By default,
+ * {@link ForkJoinPool#commonPool()} is used and the window is twice
+ * as big as the number of processors.
+ * Any {@link ExecutorService} may be used instead, for example
+ * an executor of virtual threads, if the JVM supports them.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+public final class ParallelSplit {
+
+    /**
+     * Path of records.
+     */
+    private final transient String query;
+
+    /**
+     * Namespace context of the path.
+     */
+    private final transient NamespaceContext context;
+
+    /**
+     * Task to run for every record.
+     */
+    private final transient Func<XML, XML> task;
+
+    /**
+     * Executor of tasks.
+     */
+    private final transient ExecutorService executor;
+
+    /**
+     * Maximum number of records in flight.
+     */
+    private final transient int window;
+
+    /**
+     * Public ctor.
+     * @param path Path of records, like {@code /feed/entry}
+     * @param func Task to run for every record
+     */
+    public ParallelSplit(final String path, final Func<XML, XML> func) {
+        this(
+            path, new XPathContext(), func, ForkJoinPool.commonPool(),
+            Runtime.getRuntime().availableProcessors() << 1
+        );
+    }
+
+    /**
+     * Public ctor.
+     * @param path Path of records, like {@code /f:feed/f:entry}
+     * @param ctx Namespace context with prefixes used in the path
+     * @param func Task to run for every record
+     * @param exec Executor of tasks
+     * @param max Maximum number of records in flight
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelSplit(final String path, final NamespaceContext ctx,
+        final Func<XML, XML> func, final ExecutorService exec,
+        final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format("Window must be positive: %d", max)
+            );
+        }
+        this.query = path;
+        this.context = ctx;
+        this.task = func;
+        this.executor = exec;
+        this.window = max;
+    }
+
+    /**
+     * Process all records of the input and write results to the output.
+     *
+     * <p>The input is closed, even if processing fails, the output
+     * is not closed. An {@link IllegalArgumentException} is thrown,
+     * before anything is written, if the root of the path is a wildcard
+     * or its prefix is not known to the context, and while processing,
+     * if the input is not valid XML. The exception thrown by the task,
+     * if any, is re-thrown unchecked.
+     *
+     * @param input The input stream with XML
+     * @param output Where to write the results
+     * @return How many records were processed
+     * @throws IOException If fails to write
+     */
+    public long process(final InputStream input, final OutputStream output)
+        throws IOException {
+        try {
+            final Iterator<XML> records = XMLDocument.split(
+                input, this.query, this.context
+            );
+            final SimplePath.Step root = new SimplePath(this.query).steps().get(0);
+            final String head = String.format("<%s%s>", root, this.xmlns(root));
+            output.write(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            output.write(head.getBytes(StandardCharsets.UTF_8));
+            final long total = this.records(records, output);
+            output.write(
+                String.format("</%s>", root).getBytes(StandardCharsets.UTF_8)
+            );
+            output.flush();
+            return total;
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Process records and write results to the output, in order.
+     * @param records The records
+     * @param output Where to write the results
+     * @return How many records were processed
+     * @throws IOException If fails to write
+     */
+    private long records(final Iterator<XML> records, final OutputStream output)
+        throws IOException {
+        final Deque<Future<byte[]>> flight = new ArrayDeque<>(this.window);
+        long total = 0L;
+        try {
+            while (records.hasNext()) {
+                final XML record = records.next();
+                if (flight.size() == this.window) {
+                    output.write(ParallelSplit.result(flight.poll()));
+                }
+                flight.add(
+                    this.executor.submit(
+                        () -> ParallelSplit.serialize(this.task.apply(record))
+                    )
+                );
+                ++total;
+            }
+            while (!flight.isEmpty()) {
+                output.write(ParallelSplit.result(flight.poll()));
+            }
+        } finally {
+            for (final Future<byte[]> future : flight) {
+                future.cancel(true);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Declaration of the namespace of the root element, if necessary.
+     * @param root The first step of the path
+     * @return Attribute with the declaration, or empty
+     */
+    private String xmlns(final SimplePath.Step root) {
+        if ("*".equals(root.local())) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The root of '%s' must not be a wildcard, since the results are wrapped into it",
+                    this.query
+                )
+            );
+        }
+        final String decl;
+        if (root.prefix().isEmpty()) {
+            decl = "";
+        } else {
+            final String uri = this.context.getNamespaceURI(root.prefix());
+            if (uri == null || uri.isEmpty()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "The prefix '%s' of the root of '%s' is not bound to any namespace",
+                        root.prefix(), this.query
+                    )
+                );
+            }
+            decl = String.format(" xmlns:%s=\"%s\"", root.prefix(), uri);
+        }
+        return decl;
+    }
+
+    /**
+     * Wait for the result of the task.
+     * @param future The future
+     * @return The result
+     */
+    private static byte[] result(final Future<byte[]> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(
+                "Failed to process the record", ex.getCause()
+            );
+        }
+    }
+
+    /**
+     * Print the document element, without XML declaration.
+     * @param xml The document
+     * @return UTF-8 bytes
+     */
+    private static byte[] serialize(final XML xml) {
+        Node node = xml.inner();
+        if (node instanceof Document) {
+            node = ((Document) node).getDocumentElement();
+        }
+        final TransformerFactory factory = TransformerFactory.newInstance();
+        final Transformer trans;
+        try {
+            trans = factory.newTransformer();
+        } catch (final TransformerConfigurationException ex) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Failed to create transformer by %s",
+                    factory.getClass().getName()
+                ),
+                ex
+            );
+        }
+        trans.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        trans.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            trans.transform(new DOMSource(node), new StreamResult(baos));
+        } catch (final TransformerException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to print %s", node.getNodeName()),
+                ex
+            );
+        }
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.jcabi.log.Logger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+
+/**
+ * Profile of the parser, which {@link XMLDocument} uses to build DOM.
+ *
+ * <p>The profile decides how much work the parser does, for example:
+ *
+ * <pre> XML xml = new XMLDocument(text, ParserProfile.TRIMMED);</pre>
+ *
+ * <p>These profiles are available:
+ * <ul>
+ *   <li>{@link #DEFAULT} — namespace-aware, external DTD is not loaded,
+ *   everything else is kept, as in {@link XMLDocument#XMLDocument(String)}</li>
+ *   <li>{@link #TRIMMED} — the same, but comments, processing instructions
+ *   and whitespace-only text nodes are dropped, unless
+ *   {@code xml:space="preserve"} is set, which makes the DOM smaller and
+ *   XPath queries faster; comments are skipped by the parser, while
+ *   the rest is removed by one more pass over the DOM, that's why parsing
+ *   itself takes a bit longer than by {@link #DEFAULT}</li>
+ *   <li>{@link #STRICT} — DOCTYPE is not allowed at all and limits
+ *   of secure processing are enforced, for documents from untrusted
+ *   sources</li>
+ *   <li>{@link #NS_UNAWARE} — namespaces are not processed, prefixes
+ *   stay in names, as in most old documents without namespaces</li>
+ * </ul>
+ *
+ * <p>Features are set by their standard names, supported by both
+ * Apache Xerces and its copy inside the JDK, instead of guessing the
+ * parser by the name of its class. Optimizations, which the parser
+ * doesn't support, are skipped, while restrictions of {@link #STRICT},
+ * which the parser doesn't support, lead to {@link IllegalStateException}.
+ * Every profile has its own pool of builders.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+public final class ParserProfile {
+
+    /**
+     * Default profile.
+     */
+    public static final ParserProfile DEFAULT = new ParserProfile(
+        "DEFAULT",
+        ParserProfile.NAMESPACES | ParserProfile.WHITESPACE
+            | ParserProfile.COMMENTS | ParserProfile.INSTRUCTIONS
+    );
+
+    /**
+     * Profile, which drops comments, processing instructions
+     * and whitespace-only text.
+     */
+    public static final ParserProfile TRIMMED = new ParserProfile(
+        "TRIMMED", ParserProfile.NAMESPACES
+    );
+
+    /**
+     * Strict profile, for untrusted documents.
+     */
+    public static final ParserProfile STRICT = new ParserProfile(
+        "STRICT",
+        ParserProfile.NAMESPACES | ParserProfile.SECURE
+            | ParserProfile.WHITESPACE | ParserProfile.COMMENTS
+            | ParserProfile.INSTRUCTIONS
+    );
+
+    /**
+     * Profile without namespaces.
+     */
+    public static final ParserProfile NS_UNAWARE = new ParserProfile(
+        "NS_UNAWARE",
+        ParserProfile.WHITESPACE | ParserProfile.COMMENTS
+            | ParserProfile.INSTRUCTIONS
+    );
+
+    /**
+     * Namespaces are processed.
+     */
+    private static final int NAMESPACES = 1;
+
+    /**
+     * Whitespace-only text is kept.
+     */
+    private static final int WHITESPACE = 1 << 1;
+
+    /**
+     * Comments are kept.
+     */
+    private static final int COMMENTS = 1 << 2;
+
+    /**
+     * Processing instructions are kept.
+     */
+    private static final int INSTRUCTIONS = 1 << 3;
+
+    /**
+     * Secure processing is enforced.
+     */
+    private static final int SECURE = 1 << 4;
+
+    /**
+     * Name of the profile.
+     */
+    private final transient String name;
+
+    /**
+     * Options.
+     */
+    private final transient int options;
+
+    /**
+     * Pool of builders, created on first use.
+     */
+    private final transient Unchecked<BuilderPool> builders;
+
+    /**
+     * Ctor.
+     * @param title Name of the profile
+     * @param opts Options
+     */
+    private ParserProfile(final String title, final int opts) {
+        this.name = title;
+        this.options = opts;
+        this.builders = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> new BuilderPool(
+                        this::factory,
+                        Runtime.getRuntime().availableProcessors() * 2
+                    )
+                )
+            )
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Pool of builders of this profile.
+     *
+     * <p>The pool of {@link #DEFAULT} is {@link BuilderPool#DEFAULT}.
+     *
+     * @return The pool
+     */
+    BuilderPool pool() {
+        return this.builders.value();
+    }
+
+    /**
+     * Create new {@link DocumentBuilderFactory} and configure it.
+     * @return Configured factory
+     */
+    DocumentBuilderFactory factory() {
+        final DocumentBuilderFactory fct = DocumentBuilderFactory.newInstance();
+        fct.setNamespaceAware(this.has(ParserProfile.NAMESPACES));
+        fct.setIgnoringComments(!this.has(ParserProfile.COMMENTS));
+        ParserProfile.optional(
+            fct, "http://apache.org/xml/features/nonvalidating/load-external-dtd"
+        );
+        if (this.has(ParserProfile.SECURE)) {
+            ParserProfile.required(fct, XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            ParserProfile.required(
+                fct, "http://apache.org/xml/features/disallow-doctype-decl", true
+            );
+            ParserProfile.required(
+                fct, "http://xml.org/sax/features/external-general-entities", false
+            );
+            ParserProfile.required(
+                fct, "http://xml.org/sax/features/external-parameter-entities", false
+            );
+            fct.setXIncludeAware(false);
+            fct.setExpandEntityReferences(false);
+        }
+        return fct;
+    }
+
+    /**
+     * Create new {@link SAXParserFactory} and configure it, the same way
+     * as {@link #factory()}.
+     * @return Configured factory
+     */
+    SAXParserFactory sax() {
+        final SAXParserFactory fct = SAXParserFactory.newInstance();
+        fct.setNamespaceAware(this.has(ParserProfile.NAMESPACES));
+        final String feature =
+            "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+        try {
+            fct.setFeature(feature, false);
+        } catch (final ParserConfigurationException
+            | SAXNotRecognizedException | SAXNotSupportedException ex) {
+            Logger.debug(
+                ParserProfile.class, "%s doesn't support '%s': %s",
+                fct.getClass().getName(), feature, ex.getMessage()
+            );
+        }
+        return fct;
+    }
+
+    /**
+     * Drop nodes, which the profile doesn't keep, from the DOM just parsed.
+     *
+     * <p>The DOM is walked without recursion, so that the depth of
+     * the document doesn't matter.
+     *
+     * @param node The document or an element
+     * @return The same node
+     */
+    Node tidy(final Node node) {
+        if (!this.has(ParserProfile.WHITESPACE)
+            || !this.has(ParserProfile.INSTRUCTIONS)) {
+            final Deque<Node> parents = new ArrayDeque<>(0);
+            final Deque<Boolean> preserves = new ArrayDeque<>(0);
+            parents.push(node);
+            preserves.push(false);
+            while (!parents.isEmpty()) {
+                this.tidy(parents.pop(), preserves.pop(), parents, preserves);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Drop nodes, which the profile doesn't keep, from children of the node,
+     * and remember child elements to tidy them later.
+     * @param node The node
+     * @param preserve Whether {@code xml:space="preserve"} is in effect
+     * @param parents Elements to tidy later
+     * @param preserves Whether whitespace is preserved in them
+     */
+    private void tidy(final Node node, final boolean preserve,
+        final Deque<Node> parents, final Deque<Boolean> preserves) {
+        Node child = node.getFirstChild();
+        while (child != null) {
+            final Node next = child.getNextSibling();
+            final short type = child.getNodeType();
+            if (type == Node.ELEMENT_NODE) {
+                parents.push(child);
+                preserves.push(ParserProfile.preserved((Element) child, preserve));
+            } else if (type == Node.PROCESSING_INSTRUCTION_NODE
+                && !this.has(ParserProfile.INSTRUCTIONS)
+                || type == Node.TEXT_NODE && !preserve
+                && !this.has(ParserProfile.WHITESPACE)
+                && child.getNodeValue().trim().isEmpty()) {
+                node.removeChild(child);
+            }
+            child = next;
+        }
+    }
+
+    /**
+     * The option is set.
+     * @param option The option
+     * @return TRUE if set
+     */
+    private boolean has(final int option) {
+        return (this.options & option) != 0;
+    }
+
+    /**
+     * Whether whitespace is preserved inside the element.
+     * @param element The element
+     * @param inherited Whether it is preserved in its parent
+     * @return TRUE if preserved
+     */
+    private static boolean preserved(final Element element,
+        final boolean inherited) {
+        final String space = element.getAttributeNS(
+            XMLConstants.XML_NS_URI, "space"
+        );
+        final String attr;
+        if (space.isEmpty()) {
+            attr = element.getAttribute("xml:space");
+        } else {
+            attr = space;
+        }
+        final boolean preserve;
+        if ("preserve".equals(attr)) {
+            preserve = true;
+        } else if ("default".equals(attr)) {
+            preserve = false;
+        } else {
+            preserve = inherited;
+        }
+        return preserve;
+    }
+
+    /**
+     * Turn off the feature, which only makes parsing faster, if supported.
+     * @param fct The factory
+     * @param feature The feature
+     */
+    private static void optional(final DocumentBuilderFactory fct,
+        final String feature) {
+        try {
+            fct.setFeature(feature, false);
+        } catch (final ParserConfigurationException ex) {
+            Logger.debug(
+                ParserProfile.class, "%s doesn't support '%s': %s",
+                fct.getClass().getName(), feature, ex.getMessage()
+            );
+        }
+    }
+
+    /**
+     * Set the feature, which must be supported.
+     * @param fct The factory
+     * @param feature The feature
+     * @param value The value
+     */
+    private static void required(final DocumentBuilderFactory fct,
+        final String feature, final boolean value) {
+        try {
+            fct.setFeature(feature, value);
+        } catch (final ParserConfigurationException ex) {
+            throw new IllegalStateException(
+                String.format(
+                    "Feature '%s' is not supported by %s",
+                    feature, fct.getClass().getName()
+                ),
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+/**
+ * Timer of one operation, reporting to the installed {@link Metrics}.
+ *
+ * <p>When no metrics are installed, the clock is not even read.
+ *
+ * <p>The class is NOT thread-safe, it is used by one thread, which
+ * does the operation.
+ *
+ * @since 0.36.0
+ */
+final class Probe {
+
+    /**
+     * The metrics.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Name of the operation.
+     */
+    private final String operation;
+
+    /**
+     * When the operation started.
+     */
+    private final long start;
+
+    /**
+     * Ctor, starting the timer.
+     * @param name Name of the operation
+     */
+    Probe(final String name) {
+        this.metrics = XMLMetrics.installed();
+        this.operation = name;
+        if (this.metrics == Metrics.NONE) {
+            this.start = 0L;
+        } else {
+            this.start = System.nanoTime();
+        }
+    }
+
+    /**
+     * The operation is finished.
+     * @param bytes How many bytes it processed, or zero if unknown
+     */
+    void done(final long bytes) {
+        if (this.metrics != Metrics.NONE) {
+            this.metrics.done(this.operation, System.nanoTime() - this.start, bytes);
+        }
+    }
+
+    /**
+     * The operation failed.
+     */
+    void failed() {
+        if (this.metrics != Metrics.NONE) {
+            this.metrics.failed(this.operation, System.nanoTime() - this.start);
+        }
+    }
+}
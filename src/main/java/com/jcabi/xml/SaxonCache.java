@@ -0,0 +1,198 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.XPathExecutable;
+
+/**
+ * Bounded cache of XPath queries compiled by Saxon.
+ *
+ * <p>Compiling a query takes much longer than evaluating it, while
+ * the same queries are evaluated again and again. This cache keeps
+ * compiled queries by their texts and namespace bindings. Unlike
+ * {@link javax.xml.xpath.XPathExpression}, {@link XPathExecutable} is
+ * immutable and thread-safe, that's why there is exactly one compiled
+ * copy of a query, loaded by every thread on every evaluation.
+ *
+ * <p>{@link XPathCompiler} is mutable, since namespaces are declared in
+ * it, that's why it is never shared: a new one is made for every query,
+ * which is not in the cache yet.
+ *
+ * <p>When there are more queries than the capacity, an arbitrary
+ * query is dropped from the cache.
+ *
+ * <p>Objects of this class are thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class SaxonCache {
+
+    /**
+     * Saxon processor, which compiles queries.
+     */
+    private final Processor processor;
+
+    /**
+     * Compiled queries, by texts and namespace bindings.
+     */
+    private final ConcurrentMap<SaxonCache.Key, XPathExecutable> compiled;
+
+    /**
+     * Maximum number of queries.
+     */
+    private final int capacity;
+
+    /**
+     * How many times a compiled query was reused.
+     */
+    private final AtomicLong reused;
+
+    /**
+     * How many times a query was compiled.
+     */
+    private final AtomicLong missed;
+
+    /**
+     * Ctor.
+     * @param proc Saxon processor, the same that builds documents
+     * @param max Maximum number of queries to keep
+     */
+    SaxonCache(final Processor proc, final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format("Capacity of the cache must be positive: %d", max)
+            );
+        }
+        this.processor = proc;
+        this.compiled = new ConcurrentHashMap<>(0);
+        this.capacity = max;
+        this.reused = new AtomicLong();
+        this.missed = new AtomicLong();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d quer(ies) of %d, %d hit(s), %d miss(es)",
+            this.compiled.size(), this.capacity, this.hits(), this.misses()
+        );
+    }
+
+    /**
+     * How many times a compiled query was reused.
+     * @return Number of hits
+     */
+    long hits() {
+        return this.reused.get();
+    }
+
+    /**
+     * How many times a query had to be compiled.
+     * @return Number of misses
+     */
+    long misses() {
+        return this.missed.get();
+    }
+
+    /**
+     * Compiled query, taken from the cache or compiled now.
+     * @param query The query
+     * @param namespaces Namespace URIs, by prefixes
+     * @return Compiled query
+     * @throws SaxonApiException If the query is invalid
+     */
+    XPathExecutable executable(final String query,
+        final Map<String, String> namespaces) throws SaxonApiException {
+        final SaxonCache.Key key = new SaxonCache.Key(query, namespaces);
+        XPathExecutable exec = this.compiled.get(key);
+        if (exec == null) {
+            final XPathCompiler compiler = this.processor.newXPathCompiler();
+            for (final Map.Entry<String, String> ent : namespaces.entrySet()) {
+                compiler.declareNamespace(ent.getKey(), ent.getValue());
+            }
+            exec = compiler.compile(query);
+            this.missed.incrementAndGet();
+            if (this.compiled.size() >= this.capacity) {
+                final Iterator<SaxonCache.Key> keys = this.compiled.keySet().iterator();
+                if (keys.hasNext()) {
+                    this.compiled.remove(keys.next());
+                }
+            }
+            this.compiled.putIfAbsent(key, exec);
+        } else {
+            this.reused.incrementAndGet();
+        }
+        return exec;
+    }
+
+    /**
+     * Query and its namespace bindings.
+     *
+     * @since 0.36.0
+     */
+    private static final class Key {
+
+        /**
+         * The query.
+         */
+        private final String query;
+
+        /**
+         * Namespace URIs, by prefixes.
+         */
+        private final Map<String, String> namespaces;
+
+        /**
+         * Hash code.
+         */
+        private final int hash;
+
+        /**
+         * Ctor.
+         * @param qry The query
+         * @param nss Namespace URIs, by prefixes
+         */
+        Key(final String qry, final Map<String, String> nss) {
+            this.query = qry;
+            if (nss.isEmpty()) {
+                this.namespaces = Collections.emptyMap();
+            } else {
+                this.namespaces = Collections.unmodifiableMap(new TreeMap<>(nss));
+            }
+            this.hash = 31 * qry.hashCode() + this.namespaces.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            final boolean eql;
+            if (this == obj) {
+                eql = true;
+            } else if (obj instanceof SaxonCache.Key) {
+                final SaxonCache.Key other = (SaxonCache.Key) obj;
+                eql = this.hash == other.hash
+                    && this.query.equals(other.query)
+                    && this.namespaces.equals(other.namespaces);
+            } else {
+                eql = false;
+            }
+            return eql;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
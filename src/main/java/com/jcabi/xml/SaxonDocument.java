@@ -13,14 +13,19 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.transform.stream.StreamSource;
 import net.sf.saxon.s9api.DocumentBuilder;
 import net.sf.saxon.s9api.Processor;
 import net.sf.saxon.s9api.SaxonApiException;
-import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.SaxonApiUncheckedException;
+import net.sf.saxon.s9api.XdmAtomicValue;
 import net.sf.saxon.s9api.XPathSelector;
 import net.sf.saxon.s9api.XdmItem;
 import net.sf.saxon.s9api.XdmNode;
@@ -49,9 +54,9 @@ public final class SaxonDocument implements XML {
     private static final DocumentBuilder DOC_BUILDER = SaxonDocument.SAXON.newDocumentBuilder();
 
     /**
-     * Saxon XPath compiler.
+     * Compiled XPath queries.
      */
-    private static final XPathCompiler XPATH_COMPILER = SaxonDocument.SAXON.newXPathCompiler();
+    private static final SaxonCache QUERIES = new SaxonCache(SaxonDocument.SAXON, 1024);
 
     /**
      * Exception message for unsupported methods.
@@ -138,16 +143,93 @@ public final class SaxonDocument implements XML {
         this.xdm = xml;
     }
 
+    /**
+     * Load the document in background, without blocking the caller.
+     * @param url URL of XML document
+     * @return The future document
+     * @see XMLDocument#async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URL url) {
+        return SaxonDocument.async(url, Loader.DEFAULT);
+    }
+
+    /**
+     * Load the document in background, without blocking the caller.
+     * @param uri URI of XML document
+     * @return The future document
+     * @see XMLDocument#async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URI uri) {
+        return SaxonDocument.async(uri, Loader.DEFAULT);
+    }
+
+    /**
+     * Load the document in background, by the given executor.
+     * @param url URL of XML document
+     * @param executor Where to fetch and parse it
+     * @return The future document
+     * @see XMLDocument#async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URL url,
+        final Executor executor) {
+        return new Loader(executor).load(() -> new SaxonDocument(url));
+    }
+
+    /**
+     * Load the document in background, by the given executor.
+     * @param uri URI of XML document
+     * @param executor Where to fetch and parse it
+     * @return The future document
+     * @see XMLDocument#async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URI uri,
+        final Executor executor) {
+        return new Loader(executor).load(() -> new SaxonDocument(uri));
+    }
+
     @Override
     public List<String> xpath(final String query) {
+        final Probe probe = new Probe("saxon-xpath");
         try {
-            final XPathSelector selector = SaxonDocument.XPATH_COMPILER.compile(query).load();
-            selector.setContextItem(this.xdm);
-            return selector.evaluate()
+            final List<String> result = this.selector(query).evaluate()
                 .stream()
                 .map(XdmItem::getStringValue)
                 .collect(Collectors.toList());
+            probe.done(0L);
+            return result;
         } catch (final SaxonApiException exception) {
+            probe.failed();
+            throw new IllegalArgumentException(
+                String.format("Can't evaluate the '%s' XPath query with Saxon API", query),
+                exception
+            );
+        }
+    }
+
+    @Override
+    public String first(final String query) {
+        final Probe probe = new Probe("saxon-xpath");
+        try {
+            final Iterator<XdmItem> items = this.selector(query).iterator();
+            if (!items.hasNext()) {
+                probe.done(0L);
+                throw new IndexOutOfBoundsException(
+                    String.format("Nothing found by the '%s' XPath query", query)
+                );
+            }
+            final String first = items.next().getStringValue();
+            probe.done(0L);
+            return first;
+        } catch (final SaxonApiException | SaxonApiUncheckedException exception) {
+            probe.failed();
             throw new IllegalArgumentException(
                 String.format("Can't evaluate the '%s' XPath query with Saxon API", query),
                 exception
@@ -155,6 +237,11 @@ public final class SaxonDocument implements XML {
         }
     }
 
+    @Override
+    public boolean exists(final String query) {
+        return (Boolean) this.single("exists((%s))", query);
+    }
+
     @Override
     public List<XML> nodes(final String query) {
         throw new UnsupportedOperationException(
@@ -162,6 +249,26 @@ public final class SaxonDocument implements XML {
         );
     }
 
+    @Override
+    public double number(final String query) {
+        return ((Number) this.single("number((%s)[1])", query)).doubleValue();
+    }
+
+    @Override
+    public boolean bool(final String query) {
+        return (Boolean) this.single("boolean((%s))", query);
+    }
+
+    @Override
+    public int count(final String query) {
+        return ((Number) this.single("count((%s))", query)).intValue();
+    }
+
+    @Override
+    public String string(final String query) {
+        return (String) this.single("string((%s)[1])", query);
+    }
+
     @Override
     public XML registerNs(final String prefix, final Object uri) {
         throw new UnsupportedOperationException(
@@ -212,6 +319,44 @@ public final class SaxonDocument implements XML {
         );
     }
 
+    /**
+     * Prepare the query for evaluation on this document, compiling it,
+     * unless it was compiled before, see {@link SaxonCache}.
+     * @param query The XPath query
+     * @return The selector
+     * @throws SaxonApiException If the query is invalid
+     */
+    private XPathSelector selector(final String query) throws SaxonApiException {
+        final XPathSelector selector = SaxonDocument.QUERIES
+            .executable(query, Collections.emptyMap()).load();
+        selector.setContextItem(this.xdm);
+        return selector;
+    }
+
+    /**
+     * Evaluate the query, wrapped into a function, which returns exactly
+     * one atomic value.
+     * @param function The function, like {@code count(%s)}
+     * @param query The XPath query
+     * @return The value, as a Java object
+     */
+    private Object single(final String function, final String query) {
+        final Probe probe = new Probe("saxon-xpath");
+        try {
+            final Object value = ((XdmAtomicValue) this.selector(
+                String.format(function, query)
+            ).evaluateSingle()).getValue();
+            probe.done(0L);
+            return value;
+        } catch (final SaxonApiException exception) {
+            probe.failed();
+            throw new IllegalArgumentException(
+                String.format("Can't evaluate the '%s' XPath query with Saxon API", query),
+                exception
+            );
+        }
+    }
+
     /**
      * Build Saxon XML document node from XML string text.
      * @param text XML string text.
@@ -0,0 +1,322 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+
+/**
+ * Location path in a restricted subset of XPath.
+ *
+ * <p>Only child steps are supported, each of them being a name,
+ * a prefixed name or a wildcard, optionally followed by an attribute
+ * step or {@code text()} at the end, for example:
+ * {@code /feed/entry/id/text()}, {@code /a/b/@c}, {@code /ns1:a/*}.
+ * Paths may also be relative, for example {@code b/@c}. If positions
+ * are allowed, element steps may have a positional predicate,
+ * for example {@code /a/b[2]/c}.
+ * Anything else (predicates, other axes, functions) is not recognized
+ * and {@link #valid()} returns {@code FALSE}.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class SimplePath {
+
+    /**
+     * Name, possibly prefixed, or a wildcard.
+     */
+    private static final Pattern NAME = Pattern.compile(
+        "(?:[\\p{L}_][\\p{L}\\p{N}_.\\-]*:)?(?:[\\p{L}_][\\p{L}\\p{N}_.\\-]*|\\*)"
+    );
+
+    /**
+     * Name with a positional predicate.
+     */
+    private static final Pattern POSITIONAL = Pattern.compile(
+        String.format("(%s)\\[([1-9][0-9]{0,8})]", SimplePath.NAME.pattern())
+    );
+
+    /**
+     * The query.
+     */
+    private final String query;
+
+    /**
+     * Element steps.
+     */
+    private final List<SimplePath.Step> elements;
+
+    /**
+     * Final attribute step, or NULL.
+     */
+    private final SimplePath.Step attr;
+
+    /**
+     * Whether the path ends with {@code text()}.
+     */
+    private final boolean txt;
+
+    /**
+     * Whether the query was recognized.
+     */
+    private final boolean recognized;
+
+    /**
+     * Ctor, without positional predicates.
+     * @param xpath The XPath query
+     */
+    SimplePath(final String xpath) {
+        this(xpath, false);
+    }
+
+    /**
+     * Ctor.
+     * @param xpath The XPath query
+     * @param positions Whether positional predicates are allowed
+     */
+    SimplePath(final String xpath, final boolean positions) {
+        this.query = xpath;
+        final List<SimplePath.Step> steps = new ArrayList<>(0);
+        SimplePath.Step last = null;
+        boolean text = false;
+        boolean good = !xpath.isEmpty() && !xpath.endsWith("/");
+        String body = xpath;
+        if (body.startsWith("/")) {
+            body = body.substring(1);
+        }
+        final String[] parts = body.split("/", -1);
+        for (int idx = 0; good && idx < parts.length; ++idx) {
+            final String part = parts[idx].trim();
+            final boolean end = idx == parts.length - 1;
+            if (end && "text()".equals(part)) {
+                text = true;
+            } else if (end && part.startsWith("@")
+                && SimplePath.NAME.matcher(part.substring(1)).matches()) {
+                last = new SimplePath.Step(part.substring(1));
+            } else if (SimplePath.NAME.matcher(part).matches()) {
+                steps.add(new SimplePath.Step(part));
+            } else if (positions && SimplePath.POSITIONAL.matcher(part).matches()) {
+                final Matcher matcher = SimplePath.POSITIONAL.matcher(part);
+                matcher.matches();
+                steps.add(
+                    new SimplePath.Step(
+                        matcher.group(1), Integer.parseInt(matcher.group(2))
+                    )
+                );
+            } else {
+                good = false;
+            }
+        }
+        this.elements = Collections.unmodifiableList(steps);
+        this.attr = last;
+        this.txt = text;
+        this.recognized = good;
+    }
+
+    @Override
+    public String toString() {
+        return this.query;
+    }
+
+    /**
+     * Is it a path in the supported subset of XPath?
+     * @return TRUE if the query was recognized
+     */
+    boolean valid() {
+        return this.recognized;
+    }
+
+    /**
+     * Does it start from the root of the document?
+     * @return TRUE if absolute
+     */
+    boolean absolute() {
+        return this.query.startsWith("/");
+    }
+
+    /**
+     * Element steps of the path.
+     * @return Steps, not including the attribute or {@code text()} step
+     */
+    List<SimplePath.Step> steps() {
+        return this.elements;
+    }
+
+    /**
+     * Does it point to an attribute?
+     * @return TRUE if the last step is an attribute
+     */
+    boolean attribute() {
+        return this.attr != null;
+    }
+
+    /**
+     * The attribute step.
+     * @return The step, only if {@link #attribute()} is TRUE
+     */
+    SimplePath.Step target() {
+        return this.attr;
+    }
+
+    /**
+     * Does it point to text nodes?
+     * @return TRUE if the last step is {@code text()}
+     */
+    boolean text() {
+        return this.txt;
+    }
+
+    /**
+     * One step of the path.
+     *
+     * @since 0.36.0
+     */
+    static final class Step {
+
+        /**
+         * Prefix, or empty if none.
+         */
+        private final String prefix;
+
+        /**
+         * Local name, or {@code *}.
+         */
+        private final String local;
+
+        /**
+         * Position among matching siblings, starting from one,
+         * or zero if any.
+         */
+        private final int pos;
+
+        /**
+         * Ctor.
+         * @param name Name in the query, possibly prefixed
+         */
+        Step(final String name) {
+            this(name, 0);
+        }
+
+        /**
+         * Ctor.
+         * @param name Name in the query, possibly prefixed
+         * @param position Position, starting from one, or zero if any
+         */
+        Step(final String name, final int position) {
+            this.pos = position;
+            final int colon = name.indexOf(':');
+            if (colon < 0) {
+                this.prefix = "";
+                this.local = name;
+            } else {
+                this.prefix = name.substring(0, colon);
+                this.local = name.substring(colon + 1);
+            }
+        }
+
+        @Override
+        public String toString() {
+            String name;
+            if (this.prefix.isEmpty()) {
+                name = this.local;
+            } else {
+                name = String.format("%s:%s", this.prefix, this.local);
+            }
+            if (this.pos > 0) {
+                name = String.format("%s[%d]", name, this.pos);
+            }
+            return name;
+        }
+
+        /**
+         * Does it match the name?
+         *
+         * <p>Just like in XPath 1.0, a name without a prefix matches
+         * only names without a namespace.
+         *
+         * <p>An {@link IllegalArgumentException} is thrown if the prefix
+         * is not known to the context.
+         *
+         * @param namespace Namespace URI of the node, NULL or empty if none
+         * @param name Local name of the node
+         * @param context Namespace context with prefixes of the query
+         * @return TRUE if it matches
+         */
+        boolean matches(final String namespace, final String name,
+            final NamespaceContext context) {
+            final String uri;
+            if (namespace == null) {
+                uri = XMLConstants.NULL_NS_URI;
+            } else {
+                uri = namespace;
+            }
+            return this.any()
+                || ("*".equals(this.local) || this.local.equals(name))
+                && this.namespace(context).equals(uri);
+        }
+
+        /**
+         * Prefix of the name.
+         * @return The prefix, empty if none
+         */
+        String prefix() {
+            return this.prefix;
+        }
+
+        /**
+         * Local name.
+         * @return The name or {@code *}
+         */
+        String local() {
+            return this.local;
+        }
+
+        /**
+         * Position among matching siblings.
+         * @return Position, starting from one, or zero if any
+         */
+        int position() {
+            return this.pos;
+        }
+
+        /**
+         * Is it a wildcard with no prefix, which matches any name?
+         * @return TRUE if it is {@code *}
+         */
+        boolean any() {
+            return "*".equals(this.local) && this.prefix.isEmpty();
+        }
+
+        /**
+         * Namespace URI of the step.
+         * @param context Namespace context with prefixes of the query
+         * @return The URI, empty if no prefix
+         */
+        private String namespace(final NamespaceContext context) {
+            final String uri;
+            if (this.prefix.isEmpty()) {
+                uri = XMLConstants.NULL_NS_URI;
+            } else {
+                uri = context.getNamespaceURI(this.prefix);
+                if (uri == null || uri.isEmpty()) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Prefix '%s' is not registered in %s",
+                            this.prefix, context
+                        )
+                    );
+                }
+            }
+            return uri;
+        }
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Binary snapshot of a DOM.
+ *
+ * <p>The format needs no parsing and no unescaping. All numbers
+ * are unsigned variable-length integers, seven bits per byte,
+ * and all texts are UTF-8 bytes, prefixed by their length:
+ *
+ * <pre> byte*4  magic: "JXS" and version
+ * number  how many names
+ * text*   names, element and attribute names and namespace URIs
+ * number  how many nodes, not counting the document
+ * node*   nodes in document order, attributes right after their element:
+ *   byte    type, like {@link Node#ELEMENT_NODE}
+ *   number  distance back to the parent, or to the element for attributes
+ *   number  qualified name, as position in the names plus one, zero if none
+ *   number  local name, the same way
+ *   number  namespace URI, the same way
+ *   number  length of the value plus one, zero if none
+ *   byte*   the value</pre>
+ *
+ * <p>A document with a DTD or with entity references can't be saved,
+ * since the compact DOM has no such nodes. The reader checks every
+ * number against what was read before it, and throws
+ * {@link IllegalArgumentException} if the snapshot is broken or truncated.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class Snapshot {
+
+    /**
+     * Magic bytes: "JXS" and version.
+     */
+    private static final byte[] MAGIC = {'J', 'X', 'S', 1};
+
+    /**
+     * The node.
+     */
+    private final Node root;
+
+    /**
+     * Ctor.
+     * @param node The node, either a document or an element
+     */
+    Snapshot(final Node node) {
+        this.root = node;
+    }
+
+    /**
+     * Write the snapshot.
+     *
+     * <p>The stream is not closed. An {@link IllegalArgumentException}
+     * is thrown, before anything is written, if there is a DTD or
+     * an entity reference in the document.
+     *
+     * @param output Where to write
+     * @throws IOException If fails
+     */
+    void write(final OutputStream output) throws IOException {
+        final List<Node> nodes = new ArrayList<>(0);
+        final List<Integer> parents = new ArrayList<>(0);
+        if (this.root instanceof Document) {
+            for (Node child = this.root.getFirstChild(); child != null;
+                child = child.getNextSibling()) {
+                Snapshot.collect(child, 0, nodes, parents);
+            }
+        } else {
+            Snapshot.collect(this.root, 0, nodes, parents);
+        }
+        final Map<String, Integer> positions = new HashMap<>(0);
+        final Snapshot.Output names = new Snapshot.Output();
+        final Snapshot.Output body = new Snapshot.Output();
+        for (int pos = 0; pos < nodes.size(); ++pos) {
+            final Node node = nodes.get(pos);
+            body.write(node.getNodeType());
+            body.number(pos + 1 - parents.get(pos));
+            body.number(Snapshot.position(Snapshot.name(node), positions, names));
+            body.number(Snapshot.position(node.getLocalName(), positions, names));
+            body.number(Snapshot.position(node.getNamespaceURI(), positions, names));
+            body.text(node.getNodeValue());
+        }
+        output.write(Snapshot.MAGIC);
+        final Snapshot.Output head = new Snapshot.Output();
+        head.number(positions.size());
+        head.writeTo(output);
+        names.writeTo(output);
+        final Snapshot.Output total = new Snapshot.Output();
+        total.number(nodes.size());
+        total.writeTo(output);
+        body.writeTo(output);
+        output.flush();
+    }
+
+    /**
+     * Read the snapshot into a compact, read-only DOM.
+     *
+     * <p>The stream is read till the end, but not closed.
+     *
+     * @param input Where to read from
+     * @param pool Pool of names
+     * @return The document
+     * @throws IOException If fails
+     */
+    static Document read(final InputStream input, final NamePool pool)
+        throws IOException {
+        final Snapshot.Input data = new Snapshot.Input(input);
+        final byte[] magic = data.bytes(Snapshot.MAGIC.length);
+        if (!Arrays.equals(magic, Snapshot.MAGIC)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "This is not a snapshot of XML, it starts with %s instead of %s",
+                    Arrays.toString(magic), Arrays.toString(Snapshot.MAGIC)
+                )
+            );
+        }
+        final CompactDom.Builder builder = new CompactDom.Builder(pool);
+        final int[] names = new int[data.count(1, "names") + 1];
+        names[0] = CompactDom.NONE;
+        for (int pos = 1; pos < names.length; ++pos) {
+            names[pos] = builder.position(data.text(data.number()));
+        }
+        final int total = data.count(6, "nodes");
+        final Deque<Integer> path = new ArrayDeque<>(0);
+        path.push(0);
+        short last = Node.DOCUMENT_NODE;
+        for (int idx = 1; idx <= total; ++idx) {
+            final short type = data.type();
+            final int parent = Snapshot.parent(
+                idx, last, type, data.number(), path
+            );
+            final int name = Snapshot.name(idx, names, data.number());
+            final int local = Snapshot.name(idx, names, data.number());
+            final int uri = Snapshot.name(idx, names, data.number());
+            final int length = data.number();
+            String value = null;
+            if (length > 0) {
+                value = data.text(length - 1);
+            }
+            if (type == Node.ELEMENT_NODE) {
+                path.push(idx);
+            }
+            last = type;
+            builder.add(type, parent, name, local, uri, value);
+        }
+        data.finish();
+        return (Document) builder.build().node(0);
+    }
+
+    /**
+     * Collect the node and its descendants, in document order.
+     * @param node The node
+     * @param parent Index of its parent, where the document is zero
+     * @param nodes All nodes
+     * @param parents Indexes of parents of all nodes
+     */
+    private static void collect(final Node node, final int parent,
+        final List<Node> nodes, final List<Integer> parents) {
+        final short type = node.getNodeType();
+        if (type == Node.ELEMENT_NODE || type == Node.TEXT_NODE
+            || type == Node.CDATA_SECTION_NODE || type == Node.COMMENT_NODE
+            || type == Node.PROCESSING_INSTRUCTION_NODE) {
+            nodes.add(node);
+            parents.add(parent);
+            final int idx = nodes.size();
+            final NamedNodeMap attrs = node.getAttributes();
+            if (attrs != null) {
+                for (int pos = 0; pos < attrs.getLength(); ++pos) {
+                    nodes.add(attrs.item(pos));
+                    parents.add(idx);
+                }
+            }
+            for (Node child = node.getFirstChild(); child != null;
+                child = child.getNextSibling()) {
+                Snapshot.collect(child, idx, nodes, parents);
+            }
+        } else if (type == Node.DOCUMENT_TYPE_NODE
+            || type == Node.ENTITY_REFERENCE_NODE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't save '%s', a DTD or an entity reference, into a snapshot, since it can't be restored",
+                    node.getNodeName()
+                )
+            );
+        }
+    }
+
+    /**
+     * Find the parent of the node being read, making sure it is
+     * an element, which is still open, or the document.
+     *
+     * <p>The path holds the document and all open elements, the deepest
+     * on top. Elements, which are not ancestors of the node, are closed,
+     * since nodes are in document order. Attributes must go right after
+     * their element or its other attributes.
+     *
+     * @param idx Index of the node
+     * @param last Type of the previous node
+     * @param type Type of the node
+     * @param distance Distance back to the parent, as read
+     * @param path Indexes of open elements
+     * @return Index of the parent
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static int parent(final int idx, final short last,
+        final short type, final int distance, final Deque<Integer> path) {
+        final int parent = idx - distance;
+        if (type == Node.ATTRIBUTE_NODE) {
+            if (parent == 0 || path.peek() != parent
+                || last != Node.ELEMENT_NODE && last != Node.ATTRIBUTE_NODE) {
+                throw Snapshot.broken(
+                    "Attribute #%d must go right after its element, not after #%d",
+                    idx, parent
+                );
+            }
+        } else if (type == Node.ELEMENT_NODE || type == Node.TEXT_NODE
+            || type == Node.CDATA_SECTION_NODE || type == Node.COMMENT_NODE
+            || type == Node.PROCESSING_INSTRUCTION_NODE) {
+            while (distance > 0 && distance <= idx && path.peek() > parent) {
+                path.pop();
+            }
+            if (distance < 1 || distance > idx || path.peek() != parent) {
+                throw Snapshot.broken(
+                    "Node #%d refers to #%d, which is not an open element",
+                    idx, parent
+                );
+            }
+        } else {
+            throw Snapshot.broken("Node #%d has unknown type %d", idx, type);
+        }
+        return parent;
+    }
+
+    /**
+     * Find the name by its position in the names, as read.
+     * @param idx Index of the node
+     * @param names All names
+     * @param pos Position plus one, as read
+     * @return The name, encoded by the builder
+     */
+    private static int name(final int idx, final int[] names, final int pos) {
+        if (pos >= names.length) {
+            throw Snapshot.broken(
+                "Node #%d refers to name #%d, while there are only %d",
+                idx, pos, names.length - 1
+            );
+        }
+        return names[pos];
+    }
+
+    /**
+     * Exception about a broken snapshot.
+     * @param format Format of the message
+     * @param args Arguments
+     * @return The exception
+     */
+    private static IllegalArgumentException broken(final String format,
+        final Object... args) {
+        return new IllegalArgumentException(
+            String.format("The snapshot is broken: %s", String.format(format, args))
+        );
+    }
+
+    /**
+     * Name of the node, if it has one.
+     * @param node The node
+     * @return Name or NULL
+     */
+    private static String name(final Node node) {
+        final short type = node.getNodeType();
+        String name = null;
+        if (type == Node.ELEMENT_NODE || type == Node.ATTRIBUTE_NODE
+            || type == Node.PROCESSING_INSTRUCTION_NODE) {
+            name = node.getNodeName();
+        }
+        return name;
+    }
+
+    /**
+     * Position of the name plus one, adding it to the names if necessary.
+     * @param name The name or NULL
+     * @param positions Positions of names
+     * @param names All names
+     * @return Position plus one, or zero for NULL
+     */
+    private static int position(final String name,
+        final Map<String, Integer> positions, final Snapshot.Output names) {
+        int pos = 0;
+        if (name != null) {
+            final Integer found = positions.get(name);
+            if (found == null) {
+                pos = positions.size() + 1;
+                positions.put(name, pos);
+                final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                names.number(bytes.length);
+                names.write(bytes, 0, bytes.length);
+            } else {
+                pos = found;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Bytes of the snapshot, being written.
+     *
+     * @since 0.36.0
+     */
+    private static final class Output extends ByteArrayOutputStream {
+
+        /**
+         * Ctor.
+         */
+        Output() {
+            super(1024);
+        }
+
+        /**
+         * Write unsigned number.
+         * @param num The number
+         */
+        void number(final int num) {
+            int rest = num;
+            while ((rest & ~0x7F) != 0) {
+                this.write(rest & 0x7F | 0x80);
+                rest >>>= 7;
+            }
+            this.write(rest);
+        }
+
+        /**
+         * Write text, prefixed by its length plus one.
+         * @param text The text or NULL
+         */
+        void text(final String text) {
+            if (text == null) {
+                this.number(0);
+            } else {
+                final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                this.number(bytes.length + 1);
+                this.write(bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    /**
+     * Bytes of the snapshot, being read.
+     *
+     * <p>The entire stream is read into one array in memory at once,
+     * since the snapshot is rarely bigger than the document made of it.
+     * That's why a snapshot can't be bigger than 2GB, the limit of
+     * a Java array, and takes, while being read, as much memory as it
+     * takes on disk, in addition to the document being built.
+     *
+     * @since 0.36.0
+     */
+    private static final class Input {
+
+        /**
+         * The bytes.
+         */
+        private final byte[] data;
+
+        /**
+         * How many bytes there are.
+         */
+        private final int size;
+
+        /**
+         * Position of the next byte.
+         */
+        private int pos;
+
+        /**
+         * Ctor.
+         * @param input The stream to read fully
+         * @throws IOException If fails
+         */
+        Input(final InputStream input) throws IOException {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[16 * 1024];
+            while (true) {
+                final int len = input.read(chunk);
+                if (len < 0) {
+                    break;
+                }
+                buffer.write(chunk, 0, len);
+            }
+            this.data = buffer.toByteArray();
+            this.size = this.data.length;
+        }
+
+        /**
+         * Read type of node.
+         * @return The type
+         */
+        short type() {
+            this.check(1);
+            final short type = this.data[this.pos];
+            ++this.pos;
+            return type;
+        }
+
+        /**
+         * Read unsigned number.
+         * @return The number
+         */
+        int number() {
+            int num = 0;
+            int shift = 0;
+            while (true) {
+                this.check(1);
+                final int next = this.data[this.pos];
+                ++this.pos;
+                num |= (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    break;
+                }
+                shift += 7;
+                if (shift > 28) {
+                    throw Snapshot.broken(
+                        "The number at position %d is too long", this.pos
+                    );
+                }
+            }
+            if (num < 0) {
+                throw Snapshot.broken(
+                    "The number %d at position %d is negative", num, this.pos
+                );
+            }
+            return num;
+        }
+
+        /**
+         * Read how many items follow, making sure they may fit into
+         * the bytes left.
+         * @param min How many bytes every item takes, at least
+         * @param what What are the items
+         * @return How many items
+         */
+        int count(final int min, final String what) {
+            final int num = this.number();
+            if (num > (this.size - this.pos) / min) {
+                throw Snapshot.broken(
+                    "%d %s can't fit into %d byte(s) left",
+                    num, what, this.size - this.pos
+                );
+            }
+            return num;
+        }
+
+        /**
+         * Make sure nothing is left unread.
+         */
+        void finish() {
+            if (this.pos != this.size) {
+                throw Snapshot.broken(
+                    "%d byte(s) left after the last node",
+                    this.size - this.pos
+                );
+            }
+        }
+
+        /**
+         * Read text.
+         * @param length Length of it, in bytes
+         * @return The text
+         */
+        String text(final int length) {
+            this.check(length);
+            final String text = new String(
+                this.data, this.pos, length, StandardCharsets.UTF_8
+            );
+            this.pos += length;
+            return text;
+        }
+
+        /**
+         * Read a few bytes.
+         * @param length How many
+         * @return The bytes
+         */
+        byte[] bytes(final int length) {
+            final byte[] bytes = Arrays.copyOfRange(
+                this.data, this.pos, Math.min(this.pos + length, this.size)
+            );
+            this.pos += bytes.length;
+            return bytes;
+        }
+
+        /**
+         * Make sure there are enough bytes.
+         * @param length How many bytes are needed
+         */
+        private void check(final int length) {
+            if (length < 0 || this.size - this.pos < length) {
+                throw Snapshot.broken(
+                    "%d byte(s) expected at position %d of %d",
+                    length, this.pos, this.size
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * XML document, which is read once, as a stream, in order to find
+ * values of a few simple XPath queries, known up front.
+ *
+ * <p>No DOM is built. The document is read by {@link XMLStreamReader}
+ * in one forward pass, on the first call to {@link #xpath(String)},
+ * and values of all the queries are collected at once. The memory
+ * consumed doesn't depend on the size of the document, only on the
+ * amount of values found. For example:
+ *
+ * <pre> StreamingXML xml = new StreamingXML(
+ *   Paths.get("huge-feed.xml"),
+ *   "/feed/@version", "/feed/entry/id/text()"
+ * );
+ * String version = xml.xpath("/feed/@version").get(0);
+ * List&lt;String&gt; ids = xml.xpath("/feed/entry/id/text()");</pre>
+ *
+ * <p>Only absolute location paths with child steps and
+ * an attribute or {@code text()} step at the end are supported,
+ * for example {@code /a/b/@c}, {@code /a/*&#47;text()} or
+ * {@code /ns1:a/ns1:b/text()}. Any other query is rejected
+ * with an {@link IllegalArgumentException} in the constructor.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+public final class StreamingXML {
+
+    /**
+     * Namespace context of the queries.
+     */
+    private final transient NamespaceContext context;
+
+    /**
+     * Queries.
+     */
+    private final transient Collection<SimplePath> paths;
+
+    /**
+     * Values found, by query.
+     */
+    private final transient Unchecked<Map<String, List<String>>> values;
+
+    /**
+     * Public ctor.
+     *
+     * <p>The stream will be closed automatically after reading.
+     *
+     * @param stream The input stream with XML
+     * @param queries XPath queries to evaluate
+     */
+    public StreamingXML(final InputStream stream, final String... queries) {
+        this(stream, new XPathContext(), Arrays.asList(queries));
+    }
+
+    /**
+     * Public ctor.
+     * @param file The file with XML
+     * @param queries XPath queries to evaluate
+     */
+    public StreamingXML(final Path file, final String... queries) {
+        this(file, new XPathContext(), Arrays.asList(queries));
+    }
+
+    /**
+     * Public ctor.
+     *
+     * <p>The stream will be closed automatically after reading.
+     *
+     * @param stream The input stream with XML
+     * @param ctx Namespace context with prefixes used in queries
+     * @param queries XPath queries to evaluate
+     */
+    public StreamingXML(final InputStream stream, final NamespaceContext ctx,
+        final Collection<String> queries) {
+        this(() -> stream, ctx, queries);
+    }
+
+    /**
+     * Public ctor.
+     * @param file The file with XML
+     * @param ctx Namespace context with prefixes used in queries
+     * @param queries XPath queries to evaluate
+     */
+    public StreamingXML(final Path file, final NamespaceContext ctx,
+        final Collection<String> queries) {
+        this(() -> Files.newInputStream(file), ctx, queries);
+    }
+
+    /**
+     * Private ctor.
+     * @param input The input
+     * @param ctx Namespace context with prefixes used in queries
+     * @param queries XPath queries to evaluate
+     */
+    private StreamingXML(final Scalar<InputStream> input,
+        final NamespaceContext ctx, final Collection<String> queries) {
+        this.context = ctx;
+        this.paths = StreamingXML.compile(queries);
+        this.values = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> this.read(input)))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.paths.toString();
+    }
+
+    /**
+     * Find values of the query.
+     *
+     * <p>The query must be one of those provided to the constructor,
+     * otherwise {@link IllegalArgumentException} is thrown. The first
+     * call reads the document, all other calls return what was found.
+     *
+     * @param query The XPath query
+     * @return The list of string values, in document order
+     * @see XML#xpath(String)
+     */
+    public List<String> xpath(final String query) {
+        final List<String> found = this.values.value().get(query);
+        if (found == null) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "XPath '%s' was not provided to the constructor, only these are: %s",
+                    query, this.paths
+                )
+            );
+        }
+        return found;
+    }
+
+    /**
+     * Read the document and find all values.
+     * @param input The input
+     * @return Values, by query
+     * @throws Exception If fails to read
+     */
+    private Map<String, List<String>> read(final Scalar<InputStream> input)
+        throws Exception {
+        final List<StreamingXML.Match> matches = new ArrayList<>(this.paths.size());
+        for (final SimplePath path : this.paths) {
+            matches.add(new StreamingXML.Match(path, this.context));
+        }
+        try (InputStream stream = input.value()) {
+            final XMLStreamReader reader = StreamingXML.reader(stream);
+            try {
+                int depth = 0;
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        ++depth;
+                    }
+                    for (final StreamingXML.Match match : matches) {
+                        match.accept(reader, event, depth);
+                    }
+                    if (event == XMLStreamConstants.END_ELEMENT) {
+                        --depth;
+                    }
+                }
+            } catch (final XMLStreamException ex) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Can't parse by %s, most probably the XML is invalid",
+                        reader.getClass().getName()
+                    ),
+                    ex
+                );
+            } finally {
+                reader.close();
+            }
+        }
+        final Map<String, List<String>> map = new LinkedHashMap<>(matches.size());
+        for (final StreamingXML.Match match : matches) {
+            map.put(match.toString(), match.found());
+        }
+        return map;
+    }
+
+    /**
+     * Make a reader for the stream.
+     * @param stream The stream
+     * @return The reader
+     */
+    static XMLStreamReader reader(final InputStream stream) {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(
+            XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false
+        );
+        try {
+            return factory.createXMLStreamReader(stream);
+        } catch (final XMLStreamException ex) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Failed to create stream reader by %s",
+                    factory.getClass().getName()
+                ),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Check and compile the queries.
+     * @param queries The queries
+     * @return Paths
+     */
+    private static Collection<SimplePath> compile(
+        final Collection<String> queries) {
+        final Collection<SimplePath> paths = new ArrayList<>(queries.size());
+        for (final String query : queries) {
+            final SimplePath path = new SimplePath(query);
+            if (!path.valid() || !path.absolute()
+                || !path.attribute() && !path.text()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "XPath '%s' is not supported in streaming mode, only absolute paths with child steps ending with an attribute or text() are, like '/a/b/@c' or '/a/b/text()'",
+                        query
+                    )
+                );
+            }
+            paths.add(path);
+        }
+        return Collections.unmodifiableCollection(paths);
+    }
+
+    /**
+     * Matching of one query during one pass.
+     *
+     * <p>The class is NOT thread-safe.
+     *
+     * @since 0.36.0
+     */
+    private static final class Match {
+
+        /**
+         * The path.
+         */
+        private final SimplePath path;
+
+        /**
+         * Namespace context of the query.
+         */
+        private final NamespaceContext context;
+
+        /**
+         * Values found.
+         */
+        private final List<String> values;
+
+        /**
+         * Text of the current text node.
+         */
+        private final StringBuilder text;
+
+        /**
+         * How many steps, from the root, match the current element
+         * and its ancestors.
+         */
+        private int prefix;
+
+        /**
+         * Ctor.
+         * @param path The path
+         * @param ctx Namespace context of the query
+         */
+        Match(final SimplePath path, final NamespaceContext ctx) {
+            this.path = path;
+            this.context = ctx;
+            this.values = new ArrayList<>(0);
+            this.text = new StringBuilder(0);
+        }
+
+        @Override
+        public String toString() {
+            return this.path.toString();
+        }
+
+        /**
+         * Values found.
+         * @return Unmodifiable list of values
+         */
+        List<String> found() {
+            return Collections.unmodifiableList(this.values);
+        }
+
+        /**
+         * Take the next event into account.
+         * @param reader The reader, positioned at the event
+         * @param event The type of event
+         * @param depth Depth of the current element
+         */
+        void accept(final XMLStreamReader reader, final int event,
+            final int depth) {
+            final int size = this.path.steps().size();
+            final boolean inside = this.prefix == size && depth == size;
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (this.prefix == size && depth - 1 == size) {
+                    this.flush();
+                }
+                if (this.prefix == depth - 1 && depth <= size
+                    && this.path.steps().get(depth - 1).matches(
+                        reader.getNamespaceURI(), reader.getLocalName(),
+                        this.context
+                    )) {
+                    this.prefix = depth;
+                    if (depth == size && this.path.attribute()) {
+                        this.attributes(reader);
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (inside) {
+                    this.flush();
+                }
+                if (this.prefix == depth) {
+                    this.prefix = depth - 1;
+                }
+            } else if (inside && this.path.text()) {
+                if (event == XMLStreamConstants.CHARACTERS
+                    || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                    this.text.append(
+                        reader.getTextCharacters(),
+                        reader.getTextStart(),
+                        reader.getTextLength()
+                    );
+                } else {
+                    this.flush();
+                }
+            }
+        }
+
+        /**
+         * Collect matching attributes of the current element.
+         * @param reader The reader, positioned at the start of the element
+         */
+        private void attributes(final XMLStreamReader reader) {
+            for (int idx = 0; idx < reader.getAttributeCount(); ++idx) {
+                if (this.path.target().matches(
+                    reader.getAttributeNamespace(idx),
+                    reader.getAttributeLocalName(idx),
+                    this.context
+                )) {
+                    this.values.add(reader.getAttributeValue(idx));
+                }
+            }
+        }
+
+        /**
+         * Finish the current text node, if any.
+         */
+        private void flush() {
+            if (this.text.length() > 0) {
+                this.values.add(this.text.toString());
+                this.text.setLength(0);
+            }
+        }
+    }
+}
@@ -9,6 +9,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import javax.xml.namespace.NamespaceContext;
 import lombok.EqualsAndHashCode;
 import org.cactoos.Scalar;
@@ -120,6 +122,46 @@ public final class StrictXML implements XML {
         return this.origin.value().nodes(query);
     }
 
+    @Override
+    public Stream<XML> stream(final String query) {
+        return this.origin.value().stream(query);
+    }
+
+    @Override
+    public String first(final String query) {
+        return this.origin.value().first(query);
+    }
+
+    @Override
+    public boolean exists(final String query) {
+        return this.origin.value().exists(query);
+    }
+
+    @Override
+    public double number(final String query) {
+        return this.origin.value().number(query);
+    }
+
+    @Override
+    public boolean bool(final String query) {
+        return this.origin.value().bool(query);
+    }
+
+    @Override
+    public int count(final String query) {
+        return this.origin.value().count(query);
+    }
+
+    @Override
+    public String string(final String query) {
+        return this.origin.value().string(query);
+    }
+
+    @Override
+    public Map<String, List<String>> extract(final Map<String, String> queries) {
+        return this.origin.value().extract(queries);
+    }
+
     @Override
     public XML registerNs(final String prefix, final Object uri) {
         return this.origin.value().registerNs(prefix, uri);
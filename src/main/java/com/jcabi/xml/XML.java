@@ -5,7 +5,10 @@
 package com.jcabi.xml;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import javax.xml.namespace.NamespaceContext;
 import org.w3c.dom.Node;
 import org.w3c.dom.ls.LSResourceResolver;
@@ -97,6 +100,202 @@ public interface XML {
      */
     List<XML> nodes(String query);
 
+    /**
+     * Retrieve DOM nodes as a stream.
+     *
+     * <p>This is the same as {@code nodes(query).stream()}, but wrappers
+     * of nodes are made only when the stream gets to them. The stream is
+     * sized and splits evenly, so it may be processed in parallel:
+     *
+     * <pre> long total = xml.stream("//record")
+     *   .parallel()
+     *   .mapToLong(rec -&gt; Long.parseLong(rec.first("@size")))
+     *   .sum();</pre>
+     *
+     * <p>Nodes of a regular DOM are read one by one, since it's not
+     * thread-safe, while nodes of a compact one, see
+     * {@link XMLDocument#shared(XML)}, are read in parallel.
+     *
+     * <p>An {@link IllegalArgumentException} is thrown if the parameter
+     * passed is not a valid XPath expression.
+     *
+     * <p>The default implementation streams {@link #nodes(String)}.
+     *
+     * @param query The XPath query
+     * @return Stream of DOM nodes
+     * @since 0.36.0
+     */
+    default Stream<XML> stream(final String query) {
+        return this.nodes(query).stream();
+    }
+
+    /**
+     * Find the first text element or attribute matched by XPath address.
+     *
+     * <p>This is the same as {@code xpath(query).get(0)}, but the evaluation
+     * stops at the first node found, in document order, without looking
+     * for others.
+     *
+     * <p>An {@link IndexOutOfBoundsException} is thrown if nothing is found,
+     * and an {@link IllegalArgumentException} if the parameter passed is not
+     * a valid XPath expression.
+     *
+     * <p>The default implementation takes the first item
+     * of {@link #xpath(String)}.
+     *
+     * @param query The XPath query
+     * @return The text of the first node or the function result
+     * @since 0.36.0
+     */
+    default String first(final String query) {
+        return this.xpath(query).get(0);
+    }
+
+    /**
+     * Check whether XPath address matches anything.
+     *
+     * <p>The evaluation stops at the first node found.
+     *
+     * <p>An {@link IllegalArgumentException} is thrown if the parameter
+     * passed is not a valid XPath expression or doesn't return a set
+     * of nodes.
+     *
+     * <p>The default implementation checks whether {@link #nodes(String)}
+     * is empty.
+     *
+     * @param query The XPath query
+     * @return TRUE if at least one node is found
+     * @since 0.36.0
+     */
+    default boolean exists(final String query) {
+        return !this.nodes(query).isEmpty();
+    }
+
+    /**
+     * Evaluate XPath expression as a number.
+     *
+     * <p>The expression is evaluated once, right to a number, for example
+     * {@code sum(//price)} or {@code /order/@total}, without converting
+     * it to a string and back. If the result is a set of nodes, the
+     * value of the first one is converted, just like XPath function
+     * {@code number()} does it, and if it's not a number,
+     * {@link Double#NaN} is returned.
+     *
+     * <p>An {@link IllegalArgumentException} is thrown if the parameter
+     * passed is not a valid XPath expression.
+     *
+     * <p>The default implementation wraps the query into {@code number()}
+     * and parses the result of {@link #xpath(String)}.
+     *
+     * @param query The XPath query
+     * @return The number
+     * @since 0.36.0
+     */
+    default double number(final String query) {
+        return Double.parseDouble(
+            this.xpath(String.format("number((%s))", query)).get(0)
+        );
+    }
+
+    /**
+     * Evaluate XPath expression as a boolean.
+     *
+     * <p>For example, {@code boolean(/a/@b)} or just {@code /a/@b},
+     * which is TRUE if the attribute exists. A set of nodes is TRUE if
+     * it's not empty, a string if it's not empty, a number if it's not
+     * zero or NaN.
+     *
+     * <p>An {@link IllegalArgumentException} is thrown if the parameter
+     * passed is not a valid XPath expression.
+     *
+     * <p>The default implementation wraps the query into {@code boolean()}
+     * and parses the result of {@link #xpath(String)}.
+     *
+     * @param query The XPath query
+     * @return The boolean
+     * @since 0.36.0
+     */
+    default boolean bool(final String query) {
+        return Boolean.parseBoolean(
+            this.xpath(String.format("boolean((%s))", query)).get(0)
+        );
+    }
+
+    /**
+     * Count the nodes matched by XPath address.
+     *
+     * <p>For example, {@code count("//item")} returns the number of
+     * all {@code item} elements, without building a list of them.
+     *
+     * <p>An {@link IllegalArgumentException} is thrown if the parameter
+     * passed is not a valid XPath expression or doesn't return a set
+     * of nodes.
+     *
+     * <p>The default implementation takes the size
+     * of {@link #nodes(String)}.
+     *
+     * @param query The XPath query
+     * @return Number of nodes
+     * @since 0.36.0
+     */
+    default int count(final String query) {
+        return this.nodes(query).size();
+    }
+
+    /**
+     * Evaluate XPath expression as a string.
+     *
+     * <p>If the result is a set of nodes, the text of the first one is
+     * returned, just like XPath function {@code string()} does it, and
+     * if the set is empty, an empty string is returned. Unlike
+     * {@link #xpath(String)}, nodes of any types are allowed.
+     *
+     * <p>An {@link IllegalArgumentException} is thrown if the parameter
+     * passed is not a valid XPath expression.
+     *
+     * <p>The default implementation wraps the query into {@code string()}
+     * and takes the result of {@link #xpath(String)}.
+     *
+     * @param query The XPath query
+     * @return The string
+     * @since 0.36.0
+     */
+    default String string(final String query) {
+        return this.xpath(String.format("string((%s))", query)).get(0);
+    }
+
+    /**
+     * Evaluate many XPath queries at once.
+     *
+     * <p>Every query is evaluated exactly as {@link #xpath(String)} does it,
+     * while the document is locked once, for all of them, for example:
+     *
+     * <pre> Map&lt;String, String&gt; queries = new LinkedHashMap&lt;&gt;();
+     * queries.put("id", "/record/@id");
+     * queries.put("title", "/record/title/text()");
+     * Map&lt;String, List&lt;String&gt;&gt; fields = xml.extract(queries);</pre>
+     *
+     * <p>In order to evaluate the same queries on many documents, use
+     * {@link Extractor}, which compiles them only once.
+     *
+     * <p>An {@link IllegalArgumentException} is thrown if any of the queries
+     * is not a valid XPath expression.
+     *
+     * <p>The default implementation calls {@link #xpath(String)} for every
+     * query, one by one.
+     *
+     * @param queries XPath queries, by names
+     * @return Results, by the same names, in the same order
+     * @since 0.36.0
+     */
+    default Map<String, List<String>> extract(final Map<String, String> queries) {
+        final Map<String, List<String>> result = new LinkedHashMap<>(queries.size());
+        for (final Map.Entry<String, String> ent : queries.entrySet()) {
+            result.put(ent.getKey(), this.xpath(ent.getValue()));
+        }
+        return result;
+    }
+
     /**
      * Register additional namespace prefix for XPath.
      *
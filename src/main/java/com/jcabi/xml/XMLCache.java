@@ -0,0 +1,282 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of parsed documents.
+ *
+ * <p>When the same files or texts are parsed again and again, the cache
+ * parses each of them only once and returns the same {@link XML} object
+ * next time, for example:
+ *
+ * <pre> XMLCache cache = new XMLCache(500);
+ * XML config = cache.xml(Paths.get("config.xml"));</pre>
+ *
+ * <p>Files are identified by their absolute paths, sizes and modification
+ * times, so that a modified file is parsed again. Texts are identified
+ * by SHA-256 digests of their bytes. When there are more documents than
+ * the cache may keep, the least recently used ones are evicted.
+ *
+ * <p>Since the documents are shared, they are parsed into a compact,
+ * read-only DOM, see {@link XMLDocument#compact(String)}, and can't be
+ * modified by mistake. Use {@link XML#deepCopy()} to get a mutable copy.
+ *
+ * <p>Objects of this class are thread-safe. Documents are parsed outside
+ * of the lock, so the same document may be parsed twice if it is requested
+ * by two threads at the same time.
+ *
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public final class XMLCache {
+
+    /**
+     * Documents, by their keys, in order of access.
+     */
+    private final Map<String, XMLCache.Entry> entries;
+
+    /**
+     * Maximum number of documents.
+     */
+    private final int max;
+
+    /**
+     * How many documents were found in the cache.
+     */
+    private final AtomicLong hit;
+
+    /**
+     * How many documents were not found and parsed.
+     */
+    private final AtomicLong miss;
+
+    /**
+     * How many documents were evicted.
+     */
+    private final AtomicLong evicted;
+
+    /**
+     * Ctor, with a capacity of 256 documents.
+     */
+    public XMLCache() {
+        this(256);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Maximum number of documents to keep
+     */
+    public XMLCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Capacity of the cache must be positive: %d", capacity
+                )
+            );
+        }
+        this.max = capacity;
+        this.hit = new AtomicLong();
+        this.miss = new AtomicLong();
+        this.evicted = new AtomicLong();
+        this.entries = new LinkedHashMap<String, XMLCache.Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                final Map.Entry<String, XMLCache.Entry> eldest) {
+                final boolean full = this.size() > XMLCache.this.max;
+                if (full) {
+                    XMLCache.this.evicted.incrementAndGet();
+                }
+                return full;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d document(s), %d hit(s), %d miss(es), %d eviction(s)",
+            this.size(), this.hits(), this.misses(), this.evictions()
+        );
+    }
+
+    /**
+     * Get the document from the file.
+     * @param file The file
+     * @return The document
+     * @throws IOException If fails to read the file
+     */
+    public XML xml(final Path file) throws IOException {
+        final Path path = file.toAbsolutePath().normalize();
+        final String stamp = String.format(
+            "%d:%d", Files.size(path), Files.getLastModifiedTime(path).toMillis()
+        );
+        final String key = String.format("file:%s", path);
+        XML xml = this.find(key, stamp);
+        if (xml == null) {
+            xml = XMLDocument.compact(path);
+            this.put(key, stamp, xml);
+        }
+        return xml;
+    }
+
+    /**
+     * Get the document from the text.
+     * @param text The text of XML
+     * @return The document
+     */
+    public XML xml(final String text) {
+        return this.xml(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the document from the bytes.
+     * @param data The XML
+     * @return The document
+     */
+    public XML xml(final byte[] data) {
+        final String key = String.format("sha256:%s", XMLCache.digest(data));
+        XML xml = this.find(key, "");
+        if (xml == null) {
+            xml = XMLDocument.compact(data);
+            this.put(key, "", xml);
+        }
+        return xml;
+    }
+
+    /**
+     * How many documents are in the cache now.
+     * @return Number of documents
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * How many times the document was found in the cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hit.get();
+    }
+
+    /**
+     * How many times the document was not found in the cache and was parsed.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.miss.get();
+    }
+
+    /**
+     * How many documents were evicted, as least recently used.
+     * @return Number of evictions
+     */
+    public long evictions() {
+        return this.evicted.get();
+    }
+
+    /**
+     * Remove all documents.
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Find the document.
+     * @param key The key
+     * @param stamp Stamp of the version
+     * @return The document or NULL if not found
+     */
+    private XML find(final String key, final String stamp) {
+        final XMLCache.Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(key);
+        }
+        XML xml = null;
+        if (entry != null && entry.stamp.equals(stamp)) {
+            xml = entry.xml;
+            this.hit.incrementAndGet();
+        } else {
+            this.miss.incrementAndGet();
+        }
+        return xml;
+    }
+
+    /**
+     * Put the document.
+     * @param key The key
+     * @param stamp Stamp of the version
+     * @param xml The document
+     */
+    private void put(final String key, final String stamp, final XML xml) {
+        synchronized (this.entries) {
+            this.entries.put(key, new XMLCache.Entry(stamp, xml));
+        }
+    }
+
+    /**
+     * SHA-256 digest of the bytes.
+     * @param data The bytes
+     * @return Digest in Base64
+     */
+    private static String digest(final byte[] data) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(data)
+            );
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(
+                "SHA-256 is not supported by the JVM", ex
+            );
+        }
+    }
+
+    /**
+     * Document in the cache.
+     *
+     * @since 0.36.0
+     */
+    private static final class Entry {
+
+        /**
+         * Stamp of the version.
+         */
+        private final String stamp;
+
+        /**
+         * The document.
+         */
+        private final XML xml;
+
+        /**
+         * Ctor.
+         * @param stmp Stamp of the version
+         * @param doc The document
+         */
+        Entry(final String stmp, final XML doc) {
+            this.stamp = stmp;
+            this.xml = doc;
+        }
+    }
+}
@@ -5,26 +5,33 @@
 package com.jcabi.xml;
 
 import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
@@ -38,10 +45,8 @@ import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import net.sf.saxon.xpath.XPathFactoryImpl;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
@@ -84,6 +89,16 @@ public final class XMLDocument implements XML {
      */
     private final transient Node cache;
 
+    /**
+     * XPath engine.
+     */
+    private final transient XPathEngine engine;
+
+    /**
+     * Index of elements, {@link DomIndex#NONE} if not indexed.
+     */
+    private final transient DomIndex index;
+
     /**
      * Public ctor, from a source.
      *
@@ -119,7 +134,7 @@ public final class XMLDocument implements XML {
      * @param text XML document body
      */
     public XMLDocument(final String text) {
-        this(new DomParser(XMLDocument.configuredDFactory(), text).document());
+        this(new DomParser(BuilderPool.DEFAULT, text).document());
     }
 
     /**
@@ -141,7 +156,43 @@ public final class XMLDocument implements XML {
      * @param data The XML body
      */
     public XMLDocument(final byte[] data) {
-        this(new DomParser(XMLDocument.configuredDFactory(), data).document());
+        this(new DomParser(BuilderPool.DEFAULT, data).document());
+    }
+
+    /**
+     * Public ctor, from XML as a text, parsed by the given profile.
+     * @param text XML document body
+     * @param profile Profile of the parser, like {@link ParserProfile#TRIMMED}
+     * @since 0.36.0
+     */
+    public XMLDocument(final String text, final ParserProfile profile) {
+        this(profile.tidy(new DomParser(profile.pool(), text).document()));
+    }
+
+    /**
+     * Public ctor, from XML as bytes, parsed by the given profile.
+     * @param data The XML body
+     * @param profile Profile of the parser, like {@link ParserProfile#TRIMMED}
+     * @since 0.36.0
+     */
+    public XMLDocument(final byte[] data, final ParserProfile profile) {
+        this(profile.tidy(new DomParser(profile.pool(), data).document()));
+    }
+
+    /**
+     * Public ctor, from XML in a file, parsed by the given profile.
+     * @param file XML file
+     * @param profile Profile of the parser, like {@link ParserProfile#TRIMMED}
+     * @throws FileNotFoundException In case of I/O problems
+     * @since 0.36.0
+     */
+    public XMLDocument(final Path file, final ParserProfile profile)
+        throws FileNotFoundException {
+        this(
+            profile.tidy(
+                new DomParser(profile.pool(), file.toFile()).document()
+            )
+        );
     }
 
     /**
@@ -158,7 +209,7 @@ public final class XMLDocument implements XML {
      * @throws FileNotFoundException In case of I/O problems
      */
     public XMLDocument(final File file) throws FileNotFoundException {
-        this(new DomParser(XMLDocument.configuredDFactory(), file).document());
+        this(new DomParser(BuilderPool.DEFAULT, file).document());
     }
 
     /**
@@ -175,7 +226,7 @@ public final class XMLDocument implements XML {
      * @throws FileNotFoundException In case of I/O problems
      */
     public XMLDocument(final Path file) throws FileNotFoundException {
-        this(new DomParser(XMLDocument.configuredDFactory(), file.toFile()).document());
+        this(new DomParser(BuilderPool.DEFAULT, file.toFile()).document());
     }
 
     /**
@@ -191,13 +242,15 @@ public final class XMLDocument implements XML {
      * <p>The provided input stream will be closed automatically after
      * getting data from it.
      *
+     * <p>The stream is parsed directly, without reading it into a string
+     * first, and its encoding is detected from the byte order mark or
+     * the XML declaration (UTF-8 by default).
+     *
      * @param stream The input stream, which will be closed automatically
      * @throws IOException In case of I/O problem
      */
-    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
     public XMLDocument(final InputStream stream) throws IOException {
-        this(new TextResource(stream).toString());
-        stream.close();
+        this(XMLDocument.parse(stream));
     }
 
     /**
@@ -214,7 +267,7 @@ public final class XMLDocument implements XML {
      * @throws IOException In case of I/O problems
      */
     public XMLDocument(final URL url) throws IOException {
-        this(new TextResource(url).toString());
+        this(XMLDocument.parse(url.openStream()));
     }
 
     /**
@@ -231,7 +284,7 @@ public final class XMLDocument implements XML {
      * @throws IOException In case of I/O problems
      */
     public XMLDocument(final URI uri) throws IOException {
-        this(new TextResource(uri).toString());
+        this(uri.toURL());
     }
 
     /**
@@ -245,7 +298,10 @@ public final class XMLDocument implements XML {
      * @since 0.2
      */
     public XMLDocument(final Node node) {
-        this(node, new XPathContext(), !(node instanceof Document));
+        this(
+            node, new XPathContext(), !(node instanceof Document),
+            XPathEngine.DEFAULT, DomIndex.NONE
+        );
     }
 
     /**
@@ -253,16 +309,22 @@ public final class XMLDocument implements XML {
      * @param cache The source
      * @param context Namespace context
      * @param leaf Is it a leaf node?
+     * @param engine XPath engine
+     * @param index Index of elements
      * @checkstyle ParameterNumberCheck (5 lines)
      */
     private XMLDocument(
         final Node cache,
         final XPathContext context,
-        final boolean leaf
+        final boolean leaf,
+        final XPathEngine engine,
+        final DomIndex index
     ) {
         this.context = context;
         this.leaf = leaf;
         this.cache = cache;
+        this.engine = engine;
+        this.index = index;
     }
 
     /**
@@ -325,6 +387,93 @@ public final class XMLDocument implements XML {
         }
     }
 
+    /**
+     * Load the document in background, without blocking the caller.
+     *
+     * <p>The document is fetched and parsed by virtual threads, if the JVM
+     * has them (Java 21+), or by a shared pool of daemon threads otherwise.
+     * The future is completed exceptionally if the document can't be
+     * fetched or parsed, for example:
+     *
+     * <pre> XMLDocument.async(new URL("https://example.com/feed.xml"))
+     *   .thenApply(xml -&gt; xml.xpath("/feed/title/text()").get(0))
+     *   .thenAccept(System.out::println);</pre>
+     *
+     * @param url The URL of the XML
+     * @return The future document
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URL url) {
+        return XMLDocument.async(url, Loader.DEFAULT);
+    }
+
+    /**
+     * Load the document in background, by the given executor.
+     * @param url The URL of the XML
+     * @param executor Where to fetch and parse it
+     * @return The future document
+     * @see #async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URL url,
+        final Executor executor) {
+        return new Loader(executor).load(() -> new XMLDocument(url));
+    }
+
+    /**
+     * Load the document in background, without blocking the caller.
+     * @param uri The URI of the XML
+     * @return The future document
+     * @see #async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URI uri) {
+        return XMLDocument.async(uri, Loader.DEFAULT);
+    }
+
+    /**
+     * Load the document in background, by the given executor.
+     * @param uri The URI of the XML
+     * @param executor Where to fetch and parse it
+     * @return The future document
+     * @see #async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final URI uri,
+        final Executor executor) {
+        return new Loader(executor).load(() -> new XMLDocument(uri));
+    }
+
+    /**
+     * Load the document in background, without blocking the caller.
+     * @param file The path of the XML
+     * @return The future document
+     * @see #async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final Path file) {
+        return XMLDocument.async(file, Loader.DEFAULT);
+    }
+
+    /**
+     * Load the document in background, by the given executor.
+     * @param file The path of the XML
+     * @param executor Where to read and parse it
+     * @return The future document
+     * @see #async(URL)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompletableFuture<XML> async(final Path file,
+        final Executor executor) {
+        return new Loader(executor).load(() -> new XMLDocument(file));
+    }
+
     /**
      * Factory method, to avoid checked exceptions.
      * @param stream The input stream with the XML
@@ -340,6 +489,206 @@ public final class XMLDocument implements XML {
         }
     }
 
+    /**
+     * Parse into a compact, read-only DOM.
+     *
+     * <p>The document is built directly by the parser into a few
+     * arrays, instead of a tree of objects, and takes a few times less
+     * memory than a regular DOM. XPath queries and XSL transformations
+     * work exactly the same, but the DOM can't be modified: an attempt
+     * leads to {@link org.w3c.dom.DOMException}, while
+     * {@link XML#deepCopy()} returns a regular, mutable copy.
+     * This is the best choice for documents that are kept in memory
+     * for a long time, for example in a cache.
+     *
+     * @param text XML document body
+     * @return XML
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static XML compact(final String text) {
+        return new XMLDocument(new DomParser(BuilderPool.DEFAULT, text).compact());
+    }
+
+    /**
+     * Parse into a compact, read-only DOM.
+     * @param data XML document body
+     * @return XML
+     * @see #compact(String)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static XML compact(final byte[] data) {
+        return new XMLDocument(new DomParser(BuilderPool.DEFAULT, data).compact());
+    }
+
+    /**
+     * Parse into a compact, read-only DOM.
+     * @param file XML file
+     * @return XML
+     * @see #compact(String)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static XML compact(final Path file) {
+        return new XMLDocument(
+            new DomParser(BuilderPool.DEFAULT, file.toFile()).compact()
+        );
+    }
+
+    /**
+     * Split a big document into records, without loading it into memory.
+     *
+     * <p>Every element found by the path becomes an independent
+     * {@link XML} document, with all namespaces in scope, for example:
+     *
+     * <pre> Iterator&lt;XML&gt; entries = XMLDocument.split(
+     *   Files.newInputStream(Paths.get("huge-feed.xml")), "/feed/entry"
+     * );
+     * while (entries.hasNext()) {
+     *   String id = entries.next().xpath("/entry/id/text()").get(0);
+     * }</pre>
+     *
+     * <p>Only absolute paths with child element steps are supported,
+     * like {@code /feed/entry} or {@code /feed/*}. The stream is read
+     * lazily, while iterating, and is closed after the last record.
+     *
+     * @param stream The input stream with the XML
+     * @param query Path of records
+     * @return Records, in document order
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Iterator<XML> split(final InputStream stream,
+        final String query) {
+        return XMLDocument.split(stream, query, new XPathContext());
+    }
+
+    /**
+     * Split a big document into records, without loading it into memory.
+     *
+     * <p>The context is used to resolve prefixes of the path, and is
+     * also merged into every record found.
+     *
+     * @param stream The input stream with the XML
+     * @param query Path of records, like {@code /f:feed/f:entry}
+     * @param ctx Namespace context
+     * @return Records, in document order
+     * @see #split(InputStream, String)
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Iterator<XML> split(final InputStream stream,
+        final String query, final NamespaceContext ctx) {
+        return new XMLRecords(stream, query, ctx);
+    }
+
+    /**
+     * Save a binary snapshot of the document, to be restored
+     * by {@link #restore(InputStream)} much faster than parsed.
+     *
+     * <p>The snapshot keeps every name once, in a table, and every text
+     * prefixed by its length, without any escaping, for example:
+     *
+     * <pre> try (OutputStream out = Files.newOutputStream(path)) {
+     *   XMLDocument.snapshot(xml, out);
+     * }
+     * XML same = XMLDocument.restore(Files.newInputStream(path));</pre>
+     *
+     * <p>A document with a DTD or with entity references can't be saved,
+     * an {@link IllegalArgumentException} is thrown. The stream is not closed.
+     * The format may change in future versions, so don't use
+     * snapshots for long-term storage or for exchange.
+     *
+     * @param xml The document or the element
+     * @param output Where to save
+     * @throws IOException If fails to write
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void snapshot(final XML xml, final OutputStream output)
+        throws IOException {
+        new Snapshot(xml.inner()).write(output);
+    }
+
+    /**
+     * Restore the document from its binary snapshot, made
+     * by {@link #snapshot(XML, OutputStream)}.
+     *
+     * <p>The document is restored into a compact, read-only DOM, just like
+     * the one made by {@link #compact(String)}. The stream is read into
+     * memory till the end, but not closed. An {@link IllegalArgumentException}
+     * is thrown if the snapshot is broken or truncated.
+     *
+     * @param input Where to read the snapshot from
+     * @return XML
+     * @throws IOException If fails to read
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static XML restore(final InputStream input) throws IOException {
+        return new XMLDocument(Snapshot.read(input, NamePool.DEFAULT));
+    }
+
+    /**
+     * Make a read-only copy of the document, which many threads
+     * can query at the same time.
+     *
+     * <p>A regular DOM is not thread-safe even for reading, that's why
+     * all XPath queries to the same {@link XMLDocument} are evaluated
+     * one by one. The copy is a compact, read-only DOM, see
+     * {@link #compact(String)}, which is queried without any locks,
+     * in as many threads as there are cores:
+     *
+     * <pre> XML catalog = XMLDocument.shared(new XMLDocument(file));
+     * // in many threads at the same time
+     * catalog.xpath("/catalog/item[@id='42']/price/text()");</pre>
+     *
+     * <p>A document, which is compact already, is returned as is.
+     * Namespace prefixes, registered in the {@link XMLDocument}, stay
+     * registered in the copy, and the copy is indexed by the same
+     * attributes, if the document was, see {@link #indexed(String...)}.
+     * A document with a DTD or with entity references can't be copied,
+     * an {@link IllegalArgumentException} is thrown.
+     *
+     * @param xml The document or the element
+     * @return Read-only thread-safe copy
+     * @since 0.36.0
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static XML shared(final XML xml) {
+        final Node node = xml.inner();
+        final XML copy;
+        if (node instanceof CompactNode) {
+            copy = xml;
+        } else {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final Document doc;
+            try {
+                new Snapshot(node).write(baos);
+                doc = Snapshot.read(
+                    new ByteArrayInputStream(baos.toByteArray()),
+                    NamePool.DEFAULT
+                );
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    "Failed to copy the document in memory", ex
+                );
+            }
+            if (xml instanceof XMLDocument) {
+                final XMLDocument origin = (XMLDocument) xml;
+                DomIndex index = DomIndex.NONE;
+                if (origin.index != DomIndex.NONE) {
+                    index = new DomIndex(doc, origin.index.keys());
+                }
+                copy = new XMLDocument(doc, origin.context, false, origin.engine, index);
+            } else {
+                copy = new XMLDocument(doc);
+            }
+        }
+        return copy;
+    }
+
     @Override
     public String toString() {
         return XMLDocument.asString(this.cache);
@@ -396,29 +745,16 @@ public final class XMLDocument implements XML {
     public List<String> xpath(final String query) {
         // @checkstyle FinalLocalVariableCheck (1 line)
         List<String> items;
+        final Probe probe = new Probe("xpath");
         try {
-            final NodeList nodes = this.fetch(query, NodeList.class);
-            items = new ArrayList<>(nodes.getLength());
-            for (int idx = 0; idx < nodes.getLength(); ++idx) {
-                final int type = nodes.item(idx).getNodeType();
-                if (type != Node.TEXT_NODE
-                    && type != Node.ATTRIBUTE_NODE
-                    && type != Node.CDATA_SECTION_NODE) {
-                    throw new IllegalArgumentException(
-                        String.format(
-                            "Only text() nodes or attributes are retrievable with xpath() '%s': %d",
-                            query, type
-                        )
-                    );
-                }
-                items.add(nodes.item(idx).getNodeValue());
-            }
+            items = XMLDocument.texts(this.locked(query, Node[].class), query);
         } catch (final XPathExpressionException ex) {
             try {
                 items = Collections.singletonList(
-                    this.fetch(query, String.class)
+                    this.locked(query, String.class)
                 );
             } catch (final XPathExpressionException exp) {
+                probe.failed();
                 throw new IllegalArgumentException(
                     String.format(
                         "Invalid XPath query '%s' at %s: %s",
@@ -429,15 +765,59 @@ public final class XMLDocument implements XML {
                 );
             }
         }
+        probe.done(0L);
         return new ListWrapper<>(items, this.cache, query);
     }
 
+    /**
+     * The same document, with XPath queries evaluated by the given engine.
+     * @param eng The engine
+     * @return New document
+     * @see XPathEngine
+     * @since 0.36.0
+     */
+    public XMLDocument with(final XPathEngine eng) {
+        return new XMLDocument(this.cache, this.context, this.leaf, eng, this.index);
+    }
+
+    /**
+     * The same document, with an index of its elements, by names and by
+     * values of the given key attributes.
+     *
+     * <p>The index is built on first use, in one pass over the document,
+     * and then queries like {@code //item}, {@code //*[local-name()='item']}
+     * or {@code //item[@id='42']} are answered without scanning the
+     * document again, see {@link DomIndex}:
+     *
+     * <pre> XML catalog = XMLDocument.shared(new XMLDocument(file))
+     *   .indexed("id");
+     * catalog.nodes("//item[@id='42']");</pre>
+     *
+     * <p>Key attributes are given by their names, without namespaces.
+     * The document must not be modified after it is indexed, that's why
+     * it makes most sense for compact documents, see
+     * {@link #shared(XML)}. Elements, found by {@link #nodes(String)},
+     * use the same index.
+     *
+     * @param keys Names of key attributes
+     * @return New document
+     * @since 0.36.0
+     */
+    public XMLDocument indexed(final String... keys) {
+        return new XMLDocument(
+            this.cache, this.context, this.leaf, this.engine,
+            new DomIndex(DomIndex.top(this.cache), Arrays.asList(keys))
+        );
+    }
+
     @Override
     public XML registerNs(final String prefix, final Object uri) {
         return new XMLDocument(
             this.cache,
             this.context.add(prefix, uri),
-            this.leaf
+            this.leaf,
+            this.engine,
+            this.index
         );
     }
 
@@ -445,16 +825,10 @@ public final class XMLDocument implements XML {
     public List<XML> nodes(final String query) {
         final List<XML> items;
         try {
-            final NodeList nodes = this.fetch(query, NodeList.class);
-            items = new ArrayList<>(nodes.getLength());
-            for (int idx = 0; idx < nodes.getLength(); ++idx) {
-                items.add(
-                    new XMLDocument(
-                        nodes.item(idx),
-                        this.context, true
-                    )
-                );
-            }
+            items = new LazyList<>(
+                this.fetch(query, Node[].class),
+                node -> new XMLDocument(node, this.context, true, this.engine, this.index)
+            );
         } catch (final XPathExpressionException ex) {
             throw new IllegalArgumentException(
                 String.format(
@@ -466,12 +840,87 @@ public final class XMLDocument implements XML {
         return new ListWrapper<>(items, this.cache, query);
     }
 
+    @Override
+    public double number(final String query) {
+        return this.scalar(query, Double.class);
+    }
+
+    @Override
+    public boolean bool(final String query) {
+        return this.scalar(query, Boolean.class);
+    }
+
+    @Override
+    public int count(final String query) {
+        return this.scalar(query, Node[].class).length;
+    }
+
+    @Override
+    public String string(final String query) {
+        return this.scalar(query, String.class);
+    }
+
+    @Override
+    public Stream<XML> stream(final String query) {
+        try {
+            return Arrays.stream(
+                this.fetch(query, Node[].class)
+            ).map(
+                node -> new XMLDocument(node, this.context, true, this.engine, this.index)
+            );
+        } catch (final XPathExpressionException ex) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid XPath query '%s' by %s",
+                    query, XPathFactoryImpl.class.getName()
+                ), ex
+            );
+        }
+    }
+
+    @Override
+    public String first(final String query) {
+        String first;
+        try {
+            final Node node = this.fetch(query, Node.class);
+            if (node == null) {
+                throw new ListWrapper.NodeNotFoundException(
+                    "Nothing found", this.cache, query
+                );
+            }
+            first = XMLDocument.value(XMLDocument.text(node, query));
+        } catch (final XPathExpressionException ex) {
+            first = this.scalar(query, String.class);
+        }
+        return first;
+    }
+
+    @Override
+    public boolean exists(final String query) {
+        return this.scalar(query, Node.class) != null;
+    }
+
+    @Override
+    public Map<String, List<String>> extract(final Map<String, String> queries) {
+        final Map<String, List<String>> result;
+        if (this.cache instanceof CompactNode) {
+            result = this.extracted(queries);
+        } else {
+            synchronized (XMLDocument.lock(this.cache)) {
+                result = this.extracted(queries);
+            }
+        }
+        return result;
+    }
+
     @Override
     public XML merge(final NamespaceContext ctx) {
         return new XMLDocument(
             this.cache,
             this.context.merge(ctx),
-            this.leaf
+            this.leaf,
+            this.engine,
+            this.index
         );
     }
 
@@ -523,11 +972,14 @@ public final class XMLDocument implements XML {
         final Collection<SAXParseException> errors =
             new CopyOnWriteArrayList<>();
         validator.setErrorHandler(new XMLDocument.ValidationHandler(errors));
+        final Probe probe = new Probe("validate");
         try {
             validator.validate(new DOMSource(this.cache));
         } catch (final SAXException | IOException ex) {
+            probe.failed();
             throw new IllegalStateException(ex);
         }
+        probe.done(0L);
         if (Logger.isDebugEnabled(this)) {
             Logger.debug(
                 this, "%s detected %d error(s)",
@@ -537,34 +989,64 @@ public final class XMLDocument implements XML {
         return errors;
     }
 
+    /**
+     * Parse the stream and close it.
+     * @param stream The stream with XML
+     * @return The document
+     * @throws IOException If fails to close the stream
+     */
+    private static Node parse(final InputStream stream) throws IOException {
+        try (InputStream input = stream) {
+            return new DomParser(BuilderPool.DEFAULT, input).document();
+        }
+    }
+
     /**
      * Clones a node and imports it in a new document.
      * @param node A node to clone.
      * @return A cloned node imported in a dedicated document.
      */
     private static Node createImportedNode(final Node node) {
-        final DocumentBuilderFactory factory = XMLDocument.configuredDFactory();
-        final DocumentBuilder builder;
+        final DocumentBuilder builder = BuilderPool.DEFAULT.acquire();
+        final Document document;
         try {
-            builder = factory.newDocumentBuilder();
-        } catch (final ParserConfigurationException ex) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "Failed to create document builder by %s",
-                    factory.getClass().getName()
-                ),
-                ex
-            );
+            document = builder.newDocument();
+        } finally {
+            BuilderPool.DEFAULT.release(builder);
         }
-        final Document document = builder.newDocument();
         final Node imported = document.importNode(node, true);
         document.appendChild(imported);
         return imported;
     }
 
     /**
-     * Retrieve XPath query result. Supports returning {@link NodeList} and
-     * {@link String} types.
+     * Retrieve XPath query result, measured by {@link Probe}.
+     * @param query XPath query
+     * @param type The return type
+     * @param <T> The type to return
+     * @return Result of XPath query
+     * @throws XPathExpressionException If an error occurs when evaluating XPath
+     * @see #locked(String, Class)
+     */
+    private <T> T fetch(final String query, final Class<T> type) throws XPathExpressionException {
+        final Probe probe = new Probe("xpath");
+        final T result;
+        try {
+            result = this.locked(query, type);
+        } catch (final XPathExpressionException ex) {
+            probe.failed();
+            throw ex;
+        }
+        probe.done(0L);
+        return result;
+    }
+
+    /**
+     * Retrieve XPath query result, under the lock of the document, if
+     * necessary, but not measured. Supports returning {@link NodeList},
+     * {@link Node}, {@link String}, {@link Double} and {@link Boolean} types,
+     * and also an array of nodes, which is copied out of the node set while
+     * the document is still locked.
      *
      * <p>An {@link IllegalArgumentException} is thrown if the parameter
      * passed is not a valid XPath expression or an unsupported type is
@@ -577,15 +1059,18 @@ public final class XMLDocument implements XML {
      * @throws XPathExpressionException If an error occurs when evaluating XPath
      */
     @SuppressWarnings("unchecked")
-    private <T> T fetch(final String query, final Class<T> type) throws XPathExpressionException {
-        final XPathFactory factory = XPathFactory.newInstance();
-        final XPath xpath = factory.newXPath();
-        xpath.setNamespaceContext(this.context);
+    private <T> T locked(final String query, final Class<T> type) throws XPathExpressionException {
         final QName qname;
         if (type.equals(String.class)) {
             qname = XPathConstants.STRING;
-        } else if (type.equals(NodeList.class)) {
+        } else if (type.equals(NodeList.class) || type.equals(Node[].class)) {
             qname = XPathConstants.NODESET;
+        } else if (type.equals(Double.class)) {
+            qname = XPathConstants.NUMBER;
+        } else if (type.equals(Boolean.class)) {
+            qname = XPathConstants.BOOLEAN;
+        } else if (type.equals(Node.class)) {
+            qname = XPathConstants.NODE;
         } else {
             throw new IllegalArgumentException(
                 String.format(
@@ -594,9 +1079,170 @@ public final class XMLDocument implements XML {
                 )
             );
         }
-        synchronized (this.cache) {
-            return (T) xpath.evaluate(query, this.cache, qname);
+        final T result;
+        if (this.cache instanceof CompactNode) {
+            result = (T) XMLDocument.copied(this.evaluate(query, qname), type);
+        } else {
+            synchronized (XMLDocument.lock(this.cache)) {
+                result = (T) XMLDocument.copied(this.evaluate(query, qname), type);
+            }
         }
+        return result;
+    }
+
+    /**
+     * Copy nodes out of the node set, if an array is expected.
+     * @param result Result of XPath query
+     * @param type The return type
+     * @return The result or the array of nodes
+     */
+    private static Object copied(final Object result, final Class<?> type) {
+        Object copy = result;
+        if (type.equals(Node[].class)) {
+            copy = LazyList.array((NodeList) result);
+        }
+        return copy;
+    }
+
+    /**
+     * Evaluate all queries, one by one.
+     * @param queries XPath queries, by names
+     * @return Results, by the same names
+     */
+    private Map<String, List<String>> extracted(final Map<String, String> queries) {
+        final Map<String, List<String>> result = new LinkedHashMap<>(queries.size());
+        for (final Map.Entry<String, String> ent : queries.entrySet()) {
+            result.put(ent.getKey(), this.xpath(ent.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve XPath query result of the given type, evaluating it once.
+     * @param query XPath query
+     * @param type The return type
+     * @param <T> The type to return
+     * @return Result of XPath query
+     */
+    private <T> T scalar(final String query, final Class<T> type) {
+        try {
+            return this.fetch(query, type);
+        } catch (final XPathExpressionException ex) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid XPath query '%s' for %s result",
+                    query, type.getSimpleName()
+                ),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Evaluate XPath query on the node, without any locking.
+     *
+     * <p>Nodes found by trivial paths are found by walking the DOM,
+     * see {@link DomWalk}, or by the index, if the document is indexed,
+     * see {@link DomIndex}; everything else is evaluated by the engine.
+     *
+     * @param query XPath query
+     * @param qname Type of the result
+     * @return Result of XPath query
+     * @throws XPathExpressionException If an error occurs when evaluating XPath
+     */
+    private Object evaluate(final String query, final QName qname)
+        throws XPathExpressionException {
+        List<Node> found = null;
+        if (qname.equals(XPathConstants.NODESET) || qname.equals(XPathConstants.NODE)) {
+            found = this.index.nodes(this.cache, query, this.context);
+            if (found == null) {
+                found = new DomWalk(query).nodes(this.cache, this.context);
+            }
+        }
+        final Object result;
+        if (found == null) {
+            result = this.engine.cache().evaluate(query, this.context, this.cache, qname);
+        } else if (qname.equals(XPathConstants.NODESET)) {
+            result = new DomWalk.Found(found);
+        } else if (found.isEmpty()) {
+            result = null;
+        } else {
+            result = found.get(0);
+        }
+        return result;
+    }
+
+    /**
+     * The object to lock, while reading the DOM, which is not thread-safe.
+     *
+     * <p>All nodes of the same document are locked together, since they
+     * share internal caches of the document.
+     *
+     * @param node The node
+     * @return Its document, or the node itself, if it is the document
+     */
+    static Object lock(final Node node) {
+        Object lock = node.getOwnerDocument();
+        if (lock == null) {
+            lock = node;
+        }
+        return lock;
+    }
+
+    /**
+     * Values of text nodes and attributes, made on demand.
+     * @param nodes The nodes, copied out of the result of XPath
+     * @param query XPath query, which found them
+     * @return Values
+     */
+    static List<String> texts(final Node[] nodes, final String query) {
+        for (final Node node : nodes) {
+            XMLDocument.text(node, query);
+        }
+        return new LazyList<>(nodes, XMLDocument::value);
+    }
+
+    /**
+     * Value of the node, read under the lock of its document.
+     *
+     * <p>Reading a value of a regular DOM node is not thread-safe either,
+     * since a node of a deferred DOM, made by Xerces, takes its value
+     * from the document on first access, using a buffer shared by all nodes.
+     *
+     * @param node The node
+     * @return Its value
+     */
+    private static String value(final Node node) {
+        final String value;
+        if (node instanceof CompactNode) {
+            value = node.getNodeValue();
+        } else {
+            synchronized (XMLDocument.lock(node)) {
+                value = node.getNodeValue();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Make sure the node is a text node or an attribute.
+     * @param node The node
+     * @param query XPath query, which found it
+     * @return The same node
+     */
+    private static Node text(final Node node, final String query) {
+        final int type = node.getNodeType();
+        if (type != Node.TEXT_NODE
+            && type != Node.ATTRIBUTE_NODE
+            && type != Node.CDATA_SECTION_NODE) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Only text() nodes or attributes are retrievable with xpath() '%s': %d",
+                    query, type
+                )
+            );
+        }
+        return node;
     }
 
     /**
@@ -666,26 +1312,6 @@ public final class XMLDocument implements XML {
         return result.getNode();
     }
 
-    /**
-     * Create new {@link DocumentBuilderFactory} and configure it.
-     * @return Configured factory
-     */
-    private static DocumentBuilderFactory configuredDFactory() {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        if (factory.getClass().getName().contains("xerces")) {
-            try {
-                factory.setFeature(
-                    "http://apache.org/xml/features/nonvalidating/load-external-dtd",
-                    false
-                );
-            } catch (final ParserConfigurationException ex) {
-                throw new IllegalStateException(ex);
-            }
-        }
-        factory.setNamespaceAware(true);
-        return factory;
-    }
-
     /**
      * Validation error handler.
      *
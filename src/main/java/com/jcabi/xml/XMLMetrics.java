@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+/**
+ * Metrics installed for the entire JVM.
+ *
+ * <p>By default, {@link Metrics#NONE} is installed and operations are not
+ * even timed. To collect metrics, install your own implementation, or
+ * {@link MemoryMetrics}, once, when the application starts:
+ *
+ * <pre> MemoryMetrics metrics = new MemoryMetrics();
+ * XMLMetrics.install(metrics);
+ * // later
+ * long parsed = metrics.bytes("parse");</pre>
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+public final class XMLMetrics {
+
+    /**
+     * Metrics installed.
+     */
+    private static volatile Metrics current = Metrics.NONE;
+
+    /**
+     * Utility class.
+     */
+    private XMLMetrics() {
+        // intentionally empty
+    }
+
+    /**
+     * Install metrics, replacing the ones installed before.
+     * @param metrics The metrics, {@link Metrics#NONE} to stop collecting
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void install(final Metrics metrics) {
+        XMLMetrics.current = metrics;
+    }
+
+    /**
+     * Metrics installed now.
+     * @return The metrics
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Metrics installed() {
+        return XMLMetrics.current;
+    }
+}
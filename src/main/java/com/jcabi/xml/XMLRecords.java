@@ -0,0 +1,385 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Iterator of records, found in a stream by a simple location path.
+ *
+ * <p>The stream is read by {@link XMLStreamReader}, forward only, and
+ * every element that matches the path becomes a small independent
+ * {@link XML} document, with its own DOM. Namespaces declared in the
+ * ancestors of the element are copied to it, so that the record
+ * is exactly the same as it was in the original document. Only one record
+ * is kept in memory at a time, no matter how big the stream is.
+ * Names and namespace URIs of all records are taken from
+ * {@link NamePool#DEFAULT}, so that they are kept in memory only once.
+ *
+ * <p>The stream is closed when the last record is read.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+final class XMLRecords implements Iterator<XML> {
+
+    /**
+     * The stream.
+     */
+    private final InputStream stream;
+
+    /**
+     * The path of records.
+     */
+    private final SimplePath path;
+
+    /**
+     * Namespace context of the path and the records.
+     */
+    private final NamespaceContext context;
+
+    /**
+     * Namespaces declared by the current element and its ancestors,
+     * only for those that may be ancestors of a record.
+     */
+    private final List<Map<String, String>> scopes;
+
+    /**
+     * The reader, NULL until the first record is requested.
+     */
+    private XMLStreamReader reader;
+
+    /**
+     * The record found and not yet returned, or NULL.
+     */
+    private XML found;
+
+    /**
+     * Whether the stream is over.
+     */
+    private boolean done;
+
+    /**
+     * Depth of the current element.
+     */
+    private int depth;
+
+    /**
+     * How many steps, from the root, match the current element
+     * and its ancestors.
+     */
+    private int prefix;
+
+    /**
+     * Ctor.
+     * @param input The stream with XML
+     * @param query Absolute path of records, like {@code /feed/entry}
+     * @param ctx Namespace context with prefixes used in the path
+     */
+    XMLRecords(final InputStream input, final String query,
+        final NamespaceContext ctx) {
+        this.stream = input;
+        this.path = new SimplePath(query);
+        if (!this.path.valid() || !this.path.absolute()
+            || this.path.attribute() || this.path.text()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "XPath '%s' can't be used for splitting, only absolute paths with child element steps can, like '/feed/entry'",
+                    query
+                )
+            );
+        }
+        this.context = ctx;
+        this.scopes = new ArrayList<>(this.path.steps().size());
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.found == null && !this.done) {
+            if (this.reader == null) {
+                this.reader = StreamingXML.reader(this.stream);
+            }
+            try {
+                this.found = this.advance();
+            } catch (final XMLStreamException ex) {
+                this.close();
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Can't parse by %s, most probably the XML is invalid",
+                        this.reader.getClass().getName()
+                    ),
+                    ex
+                );
+            }
+            if (this.found == null) {
+                this.close();
+            }
+        }
+        return this.found != null;
+    }
+
+    @Override
+    public XML next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                String.format("No more records at '%s'", this.path)
+            );
+        }
+        final XML record = this.found;
+        this.found = null;
+        return record;
+    }
+
+    /**
+     * Read the stream until the next record.
+     * @return The record or NULL if the stream is over
+     * @throws XMLStreamException If fails to read
+     */
+    private XML advance() throws XMLStreamException {
+        final int size = this.path.steps().size();
+        XML record = null;
+        while (record == null && this.reader.hasNext()) {
+            final int event = this.reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                ++this.depth;
+                if (this.depth <= size) {
+                    this.scopes.add(XMLRecords.declared(this.reader));
+                }
+                if (this.prefix == this.depth - 1 && this.depth <= size
+                    && this.path.steps().get(this.depth - 1).matches(
+                        this.reader.getNamespaceURI(),
+                        this.reader.getLocalName(),
+                        this.context
+                    )) {
+                    this.prefix = this.depth;
+                }
+                if (this.prefix == size && this.depth == size) {
+                    record = new XMLDocument(this.record()).merge(this.context);
+                }
+            }
+            if (event == XMLStreamConstants.END_ELEMENT
+                || record != null) {
+                if (this.prefix == this.depth) {
+                    --this.prefix;
+                }
+                if (this.depth <= size) {
+                    this.scopes.remove(this.scopes.size() - 1);
+                }
+                --this.depth;
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Build a DOM of the current element, reading the stream
+     * until its end.
+     * @return The document
+     * @throws XMLStreamException If fails to read
+     */
+    private Document record() throws XMLStreamException {
+        final DocumentBuilder builder = BuilderPool.DEFAULT.acquire();
+        final Document doc;
+        try {
+            doc = builder.newDocument();
+        } finally {
+            BuilderPool.DEFAULT.release(builder);
+        }
+        final Element root = XMLRecords.element(doc, this.reader);
+        final Map<String, String> inherited = new HashMap<>(0);
+        for (int idx = 0; idx < this.scopes.size() - 1; ++idx) {
+            inherited.putAll(this.scopes.get(idx));
+        }
+        for (final Map.Entry<String, String> ent : inherited.entrySet()) {
+            String local = ent.getKey();
+            if (local.isEmpty()) {
+                local = XMLConstants.XMLNS_ATTRIBUTE;
+            }
+            if (!ent.getValue().isEmpty() && !root.hasAttributeNS(
+                XMLConstants.XMLNS_ATTRIBUTE_NS_URI, local
+            )) {
+                root.setAttributeNS(
+                    XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                    XMLRecords.xmlns(ent.getKey()), ent.getValue()
+                );
+            }
+        }
+        doc.appendChild(root);
+        Node current = root;
+        int level = 1;
+        while (level > 0) {
+            final int event = this.reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final Element child = XMLRecords.element(doc, this.reader);
+                current.appendChild(child);
+                current = child;
+                ++level;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                current = current.getParentNode();
+                --level;
+            } else if (event == XMLStreamConstants.CHARACTERS
+                || event == XMLStreamConstants.SPACE) {
+                current.appendChild(doc.createTextNode(this.reader.getText()));
+            } else if (event == XMLStreamConstants.CDATA) {
+                current.appendChild(
+                    doc.createCDATASection(this.reader.getText())
+                );
+            } else if (event == XMLStreamConstants.COMMENT) {
+                current.appendChild(doc.createComment(this.reader.getText()));
+            } else if (event == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                current.appendChild(
+                    doc.createProcessingInstruction(
+                        this.reader.getPITarget(), this.reader.getPIData()
+                    )
+                );
+            }
+        }
+        return doc;
+    }
+
+    /**
+     * Close the reader and the stream.
+     */
+    private void close() {
+        this.done = true;
+        try {
+            this.reader.close();
+            this.stream.close();
+        } catch (final XMLStreamException | IOException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to close the stream of '%s'", this.path),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Create a DOM element, with its attributes and namespace declarations,
+     * from the current element of the reader.
+     * @param doc The document
+     * @param reader The reader, positioned at the start of the element
+     * @return The element
+     */
+    private static Element element(final Document doc,
+        final XMLStreamReader reader) {
+        final Element element = doc.createElementNS(
+            XMLRecords.uri(reader.getNamespaceURI()),
+            NamePool.DEFAULT.intern(
+                XMLRecords.qualified(reader.getPrefix(), reader.getLocalName())
+            )
+        );
+        for (int idx = 0; idx < reader.getNamespaceCount(); ++idx) {
+            String uri = reader.getNamespaceURI(idx);
+            if (uri == null) {
+                uri = "";
+            }
+            element.setAttributeNS(
+                XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                XMLRecords.xmlns(reader.getNamespacePrefix(idx)),
+                uri
+            );
+        }
+        for (int idx = 0; idx < reader.getAttributeCount(); ++idx) {
+            element.setAttributeNS(
+                XMLRecords.uri(reader.getAttributeNamespace(idx)),
+                NamePool.DEFAULT.intern(
+                    XMLRecords.qualified(
+                        reader.getAttributePrefix(idx),
+                        reader.getAttributeLocalName(idx)
+                    )
+                ),
+                reader.getAttributeValue(idx)
+            );
+        }
+        return element;
+    }
+
+    /**
+     * Namespaces declared by the current element of the reader.
+     * @param reader The reader, positioned at the start of the element
+     * @return URIs by prefixes, empty prefix for the default namespace
+     */
+    private static Map<String, String> declared(final XMLStreamReader reader) {
+        final Map<String, String> map = new HashMap<>(
+            reader.getNamespaceCount()
+        );
+        for (int idx = 0; idx < reader.getNamespaceCount(); ++idx) {
+            String prefix = reader.getNamespacePrefix(idx);
+            if (prefix == null) {
+                prefix = "";
+            }
+            String uri = reader.getNamespaceURI(idx);
+            if (uri == null) {
+                uri = "";
+            }
+            map.put(prefix, uri);
+        }
+        return map;
+    }
+
+    /**
+     * Name of the attribute, which declares the namespace.
+     * @param prefix The prefix, NULL or empty for the default namespace
+     * @return Attribute name, like {@code xmlns:a}
+     */
+    private static String xmlns(final String prefix) {
+        final String name;
+        if (prefix == null || prefix.isEmpty()) {
+            name = XMLConstants.XMLNS_ATTRIBUTE;
+        } else {
+            name = String.format("%s:%s", XMLConstants.XMLNS_ATTRIBUTE, prefix);
+        }
+        return name;
+    }
+
+    /**
+     * Qualified name.
+     * @param prefix The prefix, NULL or empty if none
+     * @param local Local name
+     * @return Name, like {@code a:b}
+     */
+    private static String qualified(final String prefix, final String local) {
+        final String name;
+        if (prefix == null || prefix.isEmpty()) {
+            name = local;
+        } else {
+            name = String.format("%s:%s", prefix, local);
+        }
+        return name;
+    }
+
+    /**
+     * Namespace URI for DOM.
+     * @param uri The URI from the reader, NULL or empty if none
+     * @return The URI or NULL if none
+     */
+    private static String uri(final String uri) {
+        final String result;
+        if (uri == null || uri.isEmpty()) {
+            result = null;
+        } else {
+            result = NamePool.DEFAULT.intern(uri);
+        }
+        return result;
+    }
+}
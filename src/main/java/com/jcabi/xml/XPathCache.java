@@ -0,0 +1,260 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Bounded cache of compiled XPath expressions.
+ *
+ * <p>Compiling an XPath query takes much longer than evaluating it,
+ * when the document is small, while the same queries are usually
+ * evaluated again and again. This cache keeps compiled expressions by
+ * their queries and namespace contexts. Since {@link XPathExpression}
+ * is not thread-safe, an expression is taken out of the cache while it
+ * is being evaluated and is returned back after, just like
+ * {@link BuilderPool} does with builders. Thus, there are as many
+ * compiled copies of a query as there are threads evaluating it
+ * at the same time, and none of them is bound to a thread.
+ *
+ * <p>When there are more queries than the capacity, an arbitrary
+ * query is dropped from the cache.
+ *
+ * <p>Objects of this class are thread-safe.
+ *
+ * @since 0.36.0
+ */
+final class XPathCache {
+
+    /**
+     * The factory, created on first use.
+     */
+    private final Unchecked<XPathFactory> factory;
+
+    /**
+     * Idle compiled expressions, by queries and contexts.
+     */
+    private final ConcurrentMap<XPathCache.Key, Queue<XPathExpression>> idle;
+
+    /**
+     * Maximum number of queries.
+     */
+    private final int capacity;
+
+    /**
+     * How many times a compiled expression was reused.
+     */
+    private final AtomicLong reused;
+
+    /**
+     * How many times a query was compiled.
+     */
+    private final AtomicLong compiled;
+
+    /**
+     * Ctor, with the engine found in classpath.
+     * @param max Maximum number of queries to keep
+     */
+    XPathCache(final int max) {
+        this(XPathFactory::newInstance, max);
+    }
+
+    /**
+     * Ctor.
+     * @param fct Factory of the engine
+     * @param max Maximum number of queries to keep
+     */
+    XPathCache(final Scalar<XPathFactory> fct, final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format("Capacity of the cache must be positive: %d", max)
+            );
+        }
+        this.factory = new Unchecked<>(
+            new Synced<>(new Sticky<>(fct))
+        );
+        this.idle = new ConcurrentHashMap<>(0);
+        this.capacity = max;
+        this.reused = new AtomicLong();
+        this.compiled = new AtomicLong();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d quer(ies) of %d, %d hit(s), %d miss(es)",
+            this.idle.size(), this.capacity, this.hits(), this.misses()
+        );
+    }
+
+    /**
+     * How many times a compiled expression was reused.
+     * @return Number of hits
+     */
+    long hits() {
+        return this.reused.get();
+    }
+
+    /**
+     * How many times a query had to be compiled.
+     * @return Number of misses
+     */
+    long misses() {
+        return this.compiled.get();
+    }
+
+    /**
+     * Evaluate the query.
+     * @param query The query
+     * @param context Namespace context
+     * @param item The node or the document to evaluate it on
+     * @param type Type of the result, like {@link javax.xml.xpath.XPathConstants#NODESET}
+     * @return The result
+     * @throws XPathExpressionException If the query is invalid or can't
+     *  be evaluated to the type
+     */
+    Object evaluate(final String query, final NamespaceContext context,
+        final Object item, final QName type) throws XPathExpressionException {
+        final XPathCache.Key key = new XPathCache.Key(query, context);
+        Queue<XPathExpression> queue = this.idle.get(key);
+        XPathExpression expr = null;
+        if (queue != null) {
+            expr = queue.poll();
+        }
+        if (expr == null) {
+            expr = this.compile(query, context);
+            this.compiled.incrementAndGet();
+        } else {
+            this.reused.incrementAndGet();
+        }
+        try {
+            return expr.evaluate(item, type);
+        } finally {
+            if (queue == null) {
+                queue = this.queue(key);
+            }
+            queue.offer(expr);
+        }
+    }
+
+    /**
+     * Compile the query.
+     * @param query The query
+     * @param context Namespace context
+     * @return Compiled expression
+     * @throws XPathExpressionException If the query is invalid
+     */
+    private XPathExpression compile(final String query,
+        final NamespaceContext context) throws XPathExpressionException {
+        final XPath xpath = this.xpath();
+        xpath.setNamespaceContext(context);
+        return xpath.compile(query);
+    }
+
+    /**
+     * New XPath of the engine.
+     * @return XPath
+     */
+    XPath xpath() {
+        final XPathFactory fct = this.factory.value();
+        synchronized (fct) {
+            return fct.newXPath();
+        }
+    }
+
+    /**
+     * Queue of idle expressions of the key, creating it if necessary,
+     * and dropping another one if there are too many queries.
+     * @param key The key
+     * @return The queue
+     */
+    private Queue<XPathExpression> queue(final XPathCache.Key key) {
+        Queue<XPathExpression> queue = this.idle.get(key);
+        if (queue == null) {
+            if (this.idle.size() >= this.capacity) {
+                final Iterator<XPathCache.Key> keys = this.idle.keySet().iterator();
+                if (keys.hasNext()) {
+                    this.idle.remove(keys.next());
+                }
+            }
+            queue = this.idle.computeIfAbsent(
+                key, any -> new ConcurrentLinkedQueue<>()
+            );
+        }
+        return queue;
+    }
+
+    /**
+     * Query and its context.
+     *
+     * @since 0.36.0
+     */
+    private static final class Key {
+
+        /**
+         * The query.
+         */
+        private final String query;
+
+        /**
+         * The context.
+         */
+        private final NamespaceContext context;
+
+        /**
+         * Hash code.
+         */
+        private final int hash;
+
+        /**
+         * Ctor.
+         * @param qry The query
+         * @param ctx The context
+         */
+        Key(final String qry, final NamespaceContext ctx) {
+            this.query = qry;
+            this.context = ctx;
+            this.hash = 31 * qry.hashCode() + Objects.hashCode(ctx);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            final boolean eql;
+            if (this == obj) {
+                eql = true;
+            } else if (obj instanceof XPathCache.Key) {
+                final XPathCache.Key other = (XPathCache.Key) obj;
+                eql = this.hash == other.hash
+                    && this.query.equals(other.query)
+                    && (this.context == other.context
+                    || Objects.equals(this.context, other.context));
+            } else {
+                eql = false;
+            }
+            return eql;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.concurrent.atomic.AtomicReference;
+import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.XPathFactoryConfigurationException;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * XPath engine, which {@link XMLDocument} uses to evaluate queries.
+ *
+ * <p>By default, the engine is found by {@link XPathFactory#newInstance()},
+ * which takes the first one available in classpath. Instead, the engine
+ * may be chosen for a document:
+ *
+ * <pre> XML xml = new XMLDocument(text).with(XPathEngine.SAXON);</pre>
+ *
+ * <p>Or for all documents, which don't choose it explicitly:
+ *
+ * <pre> XPathEngine.install(XPathEngine.JDK);</pre>
+ *
+ * <p>These engines are available:
+ * <ul>
+ *   <li>{@link #DEFAULT} — the one installed by
+ *   {@link #install(XPathEngine)}, which is {@link #CLASSPATH} at
+ *   the beginning</li>
+ *   <li>{@link #CLASSPATH} — the first one found in classpath, as before</li>
+ *   <li>{@link #JDK} — XPath 1.0 engine built into the JDK, usually
+ *   the fastest one for simple paths</li>
+ *   <li>{@link #SAXON} — XPath 3.1 engine of Saxon, usually the fastest
+ *   one for complex predicates and functions; Saxon is not a mandatory
+ *   dependency, that's why it must be added to classpath, if this engine
+ *   is used</li>
+ * </ul>
+ *
+ * <p>Every engine has its own cache of compiled queries.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @since 0.36.0
+ */
+public final class XPathEngine {
+
+    /**
+     * The engine installed for all documents.
+     */
+    public static final XPathEngine DEFAULT = new XPathEngine(
+        "DEFAULT", XPathFactory::newInstance
+    );
+
+    /**
+     * The first engine found in classpath.
+     */
+    public static final XPathEngine CLASSPATH = new XPathEngine(
+        "CLASSPATH", XPathFactory::newInstance
+    );
+
+    /**
+     * The engine of the JDK.
+     */
+    public static final XPathEngine JDK = new XPathEngine(
+        "JDK", XPathEngine::jdk
+    );
+
+    /**
+     * The engine of Saxon.
+     */
+    public static final XPathEngine SAXON = new XPathEngine(
+        "SAXON", XPathEngine::saxon
+    );
+
+    /**
+     * Class of the JDK factory.
+     */
+    private static final String JDK_FACTORY =
+        "com.sun.org.apache.xpath.internal.jaxp.XPathFactoryImpl";
+
+    /**
+     * Class of the Saxon factory.
+     */
+    private static final String SAXON_FACTORY =
+        "net.sf.saxon.xpath.XPathFactoryImpl";
+
+    /**
+     * The engine installed.
+     */
+    private static final AtomicReference<XPathEngine> INSTALLED =
+        new AtomicReference<>(XPathEngine.CLASSPATH);
+
+    /**
+     * Name of the engine.
+     */
+    private final transient String name;
+
+    /**
+     * Cache of compiled queries, created on first use.
+     */
+    private final transient Unchecked<XPathCache> queries;
+
+    /**
+     * Ctor.
+     * @param title Name of the engine
+     * @param factory Factory of the engine
+     */
+    private XPathEngine(final String title, final Scalar<XPathFactory> factory) {
+        this.name = title;
+        this.queries = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> new XPathCache(factory, 1024)))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Install the engine for all documents, which don't choose it.
+     * @param engine The engine
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void install(final XPathEngine engine) {
+        if (engine == XPathEngine.DEFAULT) {
+            throw new IllegalArgumentException(
+                "The DEFAULT engine can't be installed, choose a real one"
+            );
+        }
+        XPathEngine.INSTALLED.set(engine);
+    }
+
+    /**
+     * The engine installed for all documents.
+     * @return The engine, never {@link #DEFAULT}
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static XPathEngine installed() {
+        return XPathEngine.INSTALLED.get();
+    }
+
+    /**
+     * Cache of compiled queries of this engine.
+     * @return The cache
+     */
+    XPathCache cache() {
+        final XPathCache cache;
+        if (this == XPathEngine.DEFAULT) {
+            cache = XPathEngine.installed().cache();
+        } else {
+            cache = this.queries.value();
+        }
+        return cache;
+    }
+
+    /**
+     * Create the factory of the JDK, no matter what is in classpath.
+     * @return The factory
+     * @throws XPathFactoryConfigurationException If it's not available
+     */
+    private static XPathFactory jdk() throws XPathFactoryConfigurationException {
+        return XPathFactory.newInstance(
+            XPathFactory.DEFAULT_OBJECT_MODEL_URI, XPathEngine.JDK_FACTORY,
+            ClassLoader.getSystemClassLoader()
+        );
+    }
+
+    /**
+     * Create the factory of Saxon.
+     *
+     * <p>The class is loaded by its name, only when the engine is used
+     * for the first time, since Saxon is an optional dependency, which
+     * may be absent in classpath.
+     *
+     * @return The factory
+     * @throws ReflectiveOperationException If it can't be created
+     */
+    private static XPathFactory saxon() throws ReflectiveOperationException {
+        final Class<?> type;
+        try {
+            type = Class.forName(XPathEngine.SAXON_FACTORY);
+        } catch (final ClassNotFoundException ex) {
+            throw new IllegalStateException(
+                String.format(
+                    "The SAXON engine needs %s, add Saxon to classpath",
+                    XPathEngine.SAXON_FACTORY
+                ),
+                ex
+            );
+        }
+        return (XPathFactory) type.getDeclaredConstructor().newInstance();
+    }
+}
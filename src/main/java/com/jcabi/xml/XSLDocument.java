@@ -443,9 +443,11 @@ public final class XSLDocument implements XSL {
         final ConsoleErrorListener errors = new ConsoleErrorListener();
         trans.setErrorListener(errors);
         final long start = System.nanoTime();
+        final Probe probe = new Probe("transform");
         try {
             trans.transform(new DOMSource(xml.inner()), result);
         } catch (final TransformerException ex) {
+            probe.failed();
             final StringBuilder summary = new StringBuilder(
                 String.join("; ", errors.summary())
             );
@@ -461,6 +463,7 @@ public final class XSLDocument implements XSL {
                 ex
             );
         }
+        probe.done(0L);
         if (Logger.isTraceEnabled(this)) {
             Logger.trace(
                 this,
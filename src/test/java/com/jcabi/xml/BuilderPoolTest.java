@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.yegor256.Together;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BuilderPool}.
+ * @since 0.36.0
+ */
+final class BuilderPoolTest {
+
+    @Test
+    void reusesReleasedBuilders() {
+        final BuilderPool pool = new BuilderPool(
+            DocumentBuilderFactory.newInstance(), 2
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            new DomParser(pool, "<a/>").document();
+        }
+        MatcherAssert.assertThat(
+            "The builder must be created once and reused afterwards",
+            pool.toString(),
+            Matchers.equalTo("1 idle of 2, 2 hit(s), 1 miss(es)")
+        );
+    }
+
+    @Test
+    void keepsNoMoreThanCapacity() {
+        final BuilderPool pool = new BuilderPool(
+            DocumentBuilderFactory.newInstance(), 1
+        );
+        final DocumentBuilder first = pool.acquire();
+        final DocumentBuilder second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        MatcherAssert.assertThat(
+            "The pool must not keep more idle builders than its capacity",
+            pool.size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void reusesBuilderAfterParsingFailure() {
+        final BuilderPool pool = new BuilderPool(
+            DocumentBuilderFactory.newInstance(), 1
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new DomParser(pool, "<broken").document(),
+            "Invalid XML must not be parsed"
+        );
+        MatcherAssert.assertThat(
+            "Builder must be reusable after a parsing failure",
+            new DomParser(pool, "<fine><ok/></fine>").document(),
+            XhtmlMatchers.hasXPath("/fine/ok")
+        );
+    }
+
+    @Test
+    void parsesInMultipleThreads() {
+        MatcherAssert.assertThat(
+            "All threads must parse their documents with the shared pool",
+            new Together<>(
+                thread -> new XMLDocument(
+                    String.format("<t>%d</t>", thread)
+                ).xpath("/t/text()").get(0)
+            ).asList(),
+            Matchers.everyItem(Matchers.notNullValue())
+        );
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BuilderPool(DocumentBuilderFactory.newInstance(), 0),
+            "Pool with zero capacity must be rejected"
+        );
+    }
+}
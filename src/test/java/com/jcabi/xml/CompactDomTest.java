@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Test case for {@link CompactDom}.
+ * @since 0.36.0
+ */
+final class CompactDomTest {
+
+    /**
+     * Sample document.
+     */
+    private static final String XML = String.join(
+        "",
+        "<?xml version='1.0'?><!-- top -->",
+        "<root xmlns:x='urn:x' a='1'><x:item id='7'>hello<![CDATA[ <w> ]]>",
+        "world</x:item><item>two<i/>three</item><?pi data?>",
+        "<!-- inner --><empty/></root>"
+    );
+
+    @Test
+    void findsSameValuesAsRegularDom() {
+        final XML regular = new XMLDocument(CompactDomTest.XML)
+            .registerNs("x", "urn:x");
+        final XML compact = XMLDocument.compact(CompactDomTest.XML)
+            .registerNs("x", "urn:x");
+        for (final String query : Arrays.asList(
+            "/root/@a", "//x:item/@id", "//item/text()", "//text()",
+            "/root/*/text()", "count(//*)", "name(/root/*[1])",
+            "local-name(/root/*[1])", "string(/root)", "//@*",
+            "/root/x:item/following-sibling::*[1]/text()[last()]",
+            "string(//processing-instruction('pi'))", "string(//comment()[2])",
+            "count(/root/namespace::*)", "//i/preceding::text()"
+        )) {
+            MatcherAssert.assertThat(
+                String.format("Result of '%s' must be the same", query),
+                compact.xpath(query),
+                Matchers.equalTo(regular.xpath(query))
+            );
+        }
+    }
+
+    @Test
+    void printsSameAsRegularDom() {
+        MatcherAssert.assertThat(
+            "Compact DOM must be printed exactly as a regular one",
+            XMLDocument.compact(CompactDomTest.XML).toString(),
+            Matchers.equalTo(new XMLDocument(CompactDomTest.XML).toString())
+        );
+    }
+
+    @Test
+    void findsNodesInsideNodes() {
+        MatcherAssert.assertThat(
+            "Nested queries must work on compact DOM",
+            XMLDocument.compact(CompactDomTest.XML)
+                .nodes("/root/item").get(0).xpath("i/following-sibling::text()"),
+            Matchers.contains("three")
+        );
+    }
+
+    @Test
+    void transformsByXsl() {
+        MatcherAssert.assertThat(
+            "Compact DOM must be transformed by XSL",
+            new XSLDocument(
+                String.join(
+                    "",
+                    "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform'",
+                    " version='2.0'><xsl:template match='/'>",
+                    "<done><xsl:value-of select='count(//*)'/></done>",
+                    "</xsl:template></xsl:stylesheet>"
+                )
+            ).transform(XMLDocument.compact(CompactDomTest.XML))
+                .xpath("/done/text()"),
+            Matchers.contains("5")
+        );
+    }
+
+    @Test
+    void rejectsModifications() {
+        final Document doc = (Document) XMLDocument.compact("<a b='c'/>").inner();
+        Assertions.assertThrows(
+            DOMException.class,
+            () -> doc.getDocumentElement().setAttribute("b", "d"),
+            "Attribute must not be changed"
+        );
+        Assertions.assertThrows(
+            DOMException.class,
+            () -> doc.getDocumentElement().appendChild(doc.getFirstChild()),
+            "Child must not be added"
+        );
+    }
+
+    @Test
+    void makesMutableDeepCopy() {
+        final Document copy = (Document) XMLDocument.compact("<a><b>x</b></a>")
+            .deepCopy();
+        final Element extra = copy.createElement("c");
+        copy.getDocumentElement().appendChild(extra);
+        MatcherAssert.assertThat(
+            "Copy must be a regular DOM, which can be modified",
+            new XMLDocument(copy).xpath("name(/a/*[2])"),
+            Matchers.contains("c")
+        );
+    }
+
+    @Test
+    void keepsNodeIdentity() {
+        final Node root = ((Document) XMLDocument.compact("<a><b/><c/></a>").inner())
+            .getDocumentElement();
+        MatcherAssert.assertThat(
+            "Same node must be returned every time",
+            root.getFirstChild().getNextSibling().getPreviousSibling(),
+            Matchers.sameInstance(root.getFirstChild())
+        );
+        MatcherAssert.assertThat(
+            "Document order must be known",
+            root.getFirstChild().compareDocumentPosition(root.getLastChild()),
+            Matchers.equalTo(Node.DOCUMENT_POSITION_FOLLOWING)
+        );
+    }
+
+    @Test
+    void releasesNodesNobodyHolds() throws Exception {
+        final Document doc = (Document) XMLDocument.compact("<a><b/></a>").inner();
+        final WeakReference<Node> ref = new WeakReference<>(
+            doc.getDocumentElement().getFirstChild()
+        );
+        for (int attempt = 0; attempt < 20 && ref.get() != null; ++attempt) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        MatcherAssert.assertThat(
+            "Node must not be kept by the document",
+            ref.get(),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            "Node must be found again, equal to itself",
+            doc.getDocumentElement().getFirstChild(),
+            Matchers.equalTo(doc.getDocumentElement().getLastChild())
+        );
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.xpath.XPathConstants;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Test case for {@link DomIndex}.
+ * @since 0.36.0
+ */
+final class DomIndexTest {
+
+    /**
+     * Document for tests.
+     */
+    private static final String XML = String.join(
+        "",
+        "<o:catalog xmlns:o='urn:catalog' id='0'>",
+        "<o:item id='1' sku='a'><item id='2'/><o:item id='3'/></o:item>",
+        "<item id='4' sku='b'><name>x</name></item>",
+        "<other id='1'/>",
+        "<o:item id='5'/>",
+        "</o:catalog>"
+    );
+
+    @Test
+    void findsSameNodesAsEngine() throws Exception {
+        final XPathContext ctx = new XPathContext().add("o", "urn:catalog");
+        final List<String> queries = Arrays.asList(
+            "//item", "//o:item", "//*", "//name", "//absent",
+            "//*[local-name()='item']", "//*[local-name() = \"catalog\"]",
+            "//item[@id='2']", "//o:item[@id='3']", "//*[@id='1']",
+            "//*[local-name()='item'][@id='5']", "//o:item[@id='4']",
+            "//*[@id='42']", "//o:item/@sku", "//*[@id='1']/@sku", "//*/@id"
+        );
+        for (final Node doc : Arrays.asList(
+            new XMLDocument(DomIndexTest.XML).inner(),
+            XMLDocument.compact(DomIndexTest.XML).inner()
+        )) {
+            final DomIndex index = new DomIndex(doc, Collections.singletonList("id"));
+            for (final String query : queries) {
+                MatcherAssert.assertThat(
+                    String.format("Index must find the same nodes by '%s'", query),
+                    index.nodes(doc, query, ctx),
+                    Matchers.equalTo(
+                        DomIndexTest.list(
+                            (NodeList) new XPathCache(1).evaluate(
+                                query, ctx, doc, XPathConstants.NODESET
+                            )
+                        )
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void leavesOtherQueriesToEngine() {
+        final Node doc = new XMLDocument(DomIndexTest.XML).inner();
+        final DomIndex index = new DomIndex(doc, Collections.singletonList("id"));
+        for (final String query : Arrays.asList(
+            "/o:catalog", "//item[@sku='a']", "//x:item", "//item/name",
+            "//item[1]", "count(//item)", "//o:*"
+        )) {
+            MatcherAssert.assertThat(
+                String.format("Query '%s' must be left to the engine", query),
+                index.nodes(doc, query, new XPathContext()),
+                Matchers.nullValue()
+            );
+        }
+    }
+
+    @Test
+    void indexesVeryDeepDocument() {
+        final int depth = 50_000;
+        final StringBuilder xml = new StringBuilder(depth * 8);
+        for (int idx = 0; idx < depth; ++idx) {
+            xml.append("<d>");
+        }
+        xml.append("<k id='x'/>");
+        for (int idx = 0; idx < depth; ++idx) {
+            xml.append("</d>");
+        }
+        final Node doc = new XMLDocument(xml.toString()).inner();
+        final DomIndex index = new DomIndex(doc, Collections.singletonList("id"));
+        MatcherAssert.assertThat(
+            "All elements of a deep document must be indexed",
+            index.nodes(doc, "//d", new XPathContext()).size(),
+            Matchers.equalTo(depth)
+        );
+        MatcherAssert.assertThat(
+            "The deepest element must be found by key",
+            index.nodes(doc, "//k[@id='x']", new XPathContext()).size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void ignoresOtherDocuments() {
+        final Node doc = new XMLDocument(DomIndexTest.XML).inner();
+        MatcherAssert.assertThat(
+            "Index of another document must not be used",
+            new DomIndex(
+                new XMLDocument("<item/>").inner(), Collections.emptyList()
+            ).nodes(doc, "//item", new XPathContext()),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void findsByIndexedDocument() {
+        final XML xml = XMLDocument.shared(
+            new XMLDocument(DomIndexTest.XML).registerNs("o", "urn:catalog")
+        );
+        final XML indexed = ((XMLDocument) xml).indexed("id", "sku");
+        MatcherAssert.assertThat(
+            "Elements must be found by key attribute",
+            indexed.xpath("//o:item[@sku='a']/@id"),
+            Matchers.contains("1")
+        );
+        MatcherAssert.assertThat(
+            "Elements must be found by local name",
+            indexed.nodes("//*[local-name()='item']").size(),
+            Matchers.equalTo(xml.nodes("//*[local-name()='item']").size())
+        );
+        MatcherAssert.assertThat(
+            "Nested nodes must use the index of the document",
+            indexed.nodes("/o:catalog/o:item").get(0).xpath("//item[@id='4']/name/text()"),
+            Matchers.contains("x")
+        );
+        MatcherAssert.assertThat(
+            "Shared copy must be indexed too",
+            XMLDocument.shared(
+                new XMLDocument(DomIndexTest.XML).indexed("id")
+            ).xpath("//*[@id='1']/@sku"),
+            Matchers.contains("a")
+        );
+    }
+
+    @Test
+    void buildsIndexOnceInManyThreads() {
+        final XML xml = XMLDocument.shared(new XMLDocument(DomIndexTest.XML));
+        final XML indexed = ((XMLDocument) xml).indexed("id");
+        MatcherAssert.assertThat(
+            "All threads must find the same element",
+            new Together<>(
+                thread -> indexed.xpath("//item[@id='4']/@sku").get(0)
+            ).asList(),
+            Matchers.everyItem(Matchers.equalTo("b"))
+        );
+    }
+
+    /**
+     * Nodes of the list.
+     * @param nodes The list
+     * @return Nodes
+     */
+    private static List<Node> list(final NodeList nodes) {
+        final List<Node> list = new ArrayList<>(nodes.getLength());
+        for (int idx = 0; idx < nodes.getLength(); ++idx) {
+            list.add(nodes.item(idx));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/**
+ * JMH benchmark for {@link DomParser#document()}.
+ *
+ * <p>Two scenarios, both parsing the same small (about 2 KB) document:
+ * <ul>
+ *   <li>{@link #freshFactoryEachCall} — new {@link DocumentBuilderFactory}
+ *   and new builder on every call, as it was before {@link BuilderPool}</li>
+ *   <li>{@link #pooledBuilders} — builders taken from
+ *   {@link BuilderPool#DEFAULT}</li>
+ * </ul>
+ *
+ * @since 0.36.0
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DomParserBenchmark {
+
+    /**
+     * Small XML document.
+     */
+    private static final String INPUT = DomParserBenchmark.message(40);
+
+    /**
+     * New factory and builder on every call.
+     * @return Parsed document
+     */
+    @Benchmark
+    public final Document freshFactoryEachCall() {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return new DomParser(factory, DomParserBenchmark.INPUT).document();
+    }
+
+    /**
+     * Builders from the shared pool.
+     * @return Parsed document
+     */
+    @Benchmark
+    public final Document pooledBuilders() {
+        return new DomParser(
+            BuilderPool.DEFAULT, DomParserBenchmark.INPUT
+        ).document();
+    }
+
+    /**
+     * Build a message with the given number of items.
+     * @param total How many items
+     * @return XML text
+     */
+    private static String message(final int total) {
+        final StringBuilder xml = new StringBuilder("<message><items>");
+        for (int idx = 0; idx < total; ++idx) {
+            xml.append("<item id='").append(idx).append("'>")
+                .append("<name>Item number ").append(idx).append("</name>")
+                .append("</item>");
+        }
+        return xml.append("</items></message>").toString();
+    }
+}
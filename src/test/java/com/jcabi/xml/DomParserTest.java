@@ -5,6 +5,8 @@
 package com.jcabi.xml;
 
 import com.jcabi.matchers.XhtmlMatchers;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Assertions;
@@ -64,4 +66,18 @@ final class DomParserTest {
         }
     }
 
+    @Test
+    void parsesStreamWithoutDecodingItFirst() {
+        MatcherAssert.assertThat(
+            "Document must be parsed right from the stream",
+            new DomParser(
+                BuilderPool.DEFAULT,
+                new ByteArrayInputStream(
+                    "<a><b>\u0443\u0440\u0430!</b></a>".getBytes(StandardCharsets.UTF_16)
+                )
+            ).document(),
+            XhtmlMatchers.hasXPath("/a/b[.='\u0443\u0440\u0430!']")
+        );
+    }
+
 }
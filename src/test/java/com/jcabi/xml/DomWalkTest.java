@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.xml.xpath.XPathConstants;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Test case for {@link DomWalk}.
+ * @since 0.36.0
+ */
+final class DomWalkTest {
+
+    /**
+     * Document for tests.
+     */
+    private static final String XML = String.join(
+        "",
+        "<o:order xmlns:o='urn:order' xmlns='urn:default' id='1' o:ref='r'>",
+        "<o:item sku='a'>first<![CDATA[ and more]]><x/>tail</o:item>",
+        "<o:item sku='b'>second</o:item>",
+        "<plain>p</plain>",
+        "<o:item sku='c'/>",
+        "</o:order>"
+    );
+
+    @Test
+    void findsSameNodesAsEngine() throws Exception {
+        final XPathContext ctx = new XPathContext()
+            .add("o", "urn:order").add("d", "urn:default");
+        final List<String> queries = Arrays.asList(
+            "/o:order/@id", "/o:order/@*", "/o:order/@o:ref",
+            "/o:order/o:item", "/o:order/o:item[2]", "/o:order/o:item[7]",
+            "/o:order/o:item/@sku", "/o:order/o:item/text()",
+            "/o:order/o:item[1]/text()", "/o:order/*", "/o:order/o:*",
+            "/o:order/plain", "/o:order/d:plain/text()", "/*/*[3]",
+            "/order", "o:item/x"
+        );
+        for (final Node doc : Arrays.asList(
+            new XMLDocument(DomWalkTest.XML).inner(),
+            XMLDocument.compact(DomWalkTest.XML).inner()
+        )) {
+            for (final String query : queries) {
+                final Node node;
+                if (query.startsWith("/")) {
+                    node = doc;
+                } else {
+                    node = doc.getFirstChild();
+                }
+                MatcherAssert.assertThat(
+                    String.format("Walk must find the same nodes by '%s'", query),
+                    new DomWalk(query).nodes(node, ctx),
+                    Matchers.equalTo(
+                        DomWalkTest.list(
+                            (NodeList) new XPathCache(1).evaluate(
+                                query, ctx, node, XPathConstants.NODESET
+                            )
+                        )
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void givesUpOnComplexQueries() {
+        final Node doc = new XMLDocument("<a><b/></a>").inner();
+        for (final String query : Arrays.asList(
+            "//b", "/a/b[last()]", "/a/x:b", "count(/a/b)", "/a/b/..", "/a/b/@c[1]"
+        )) {
+            MatcherAssert.assertThat(
+                String.format("Query '%s' must be left to the engine", query),
+                new DomWalk(query).nodes(doc, new XPathContext()),
+                Matchers.nullValue()
+            );
+        }
+    }
+
+    @Test
+    void keepsResultsOfXpath() {
+        final XML xml = new XMLDocument(DomWalkTest.XML)
+            .registerNs("o", "urn:order");
+        MatcherAssert.assertThat(
+            "Texts must be the same as before",
+            xml.xpath("/o:order/o:item/text()"),
+            Matchers.contains("first", "tail", "second")
+        );
+        MatcherAssert.assertThat(
+            "Positional predicate must be applied",
+            xml.nodes("/o:order/o:item[3]").get(0).xpath("@sku"),
+            Matchers.contains("c")
+        );
+    }
+
+    /**
+     * Nodes of the list.
+     * @param nodes The list
+     * @return Nodes
+     */
+    private static List<Node> list(final NodeList nodes) {
+        final List<Node> list = new ArrayList<>(nodes.getLength());
+        for (int idx = 0; idx < nodes.getLength(); ++idx) {
+            list.add(nodes.item(idx));
+        }
+        return list;
+    }
+}
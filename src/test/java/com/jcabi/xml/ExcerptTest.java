@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Excerpt}.
+ * @since 0.36.0
+ */
+final class ExcerptTest {
+
+    @Test
+    void printsSmallDocumentEntirely() {
+        MatcherAssert.assertThat(
+            "Small document must be printed as a whole",
+            new Excerpt(
+                new XMLDocument(
+                    "<a x='1&amp;2'><b>t &lt; u</b><!--c--><![CDATA[d]]></a>"
+                ).inner(),
+                100
+            ).toString(),
+            Matchers.equalTo("<a x=\"1&amp;2\"><b>t &lt; u</b><!--c--><![CDATA[d]]></a>")
+        );
+    }
+
+    @Test
+    void cutsLargeDocument() {
+        final String text = String.join("", Collections.nCopies(100_000, "<i>item</i>"));
+        MatcherAssert.assertThat(
+            "Large document must be cut at the limit",
+            new Excerpt(new XMLDocument(String.format("<r>%s</r>", text)).inner(), 20)
+                .toString(),
+            Matchers.equalTo("<r><i>item</i><i>ite...")
+        );
+    }
+
+    @Test
+    void printsLocationOfNode() {
+        MatcherAssert.assertThat(
+            "Location of nested node must be printed",
+            new Excerpt(
+                new XMLDocument("<a><b><c>x</c></b></a>").nodes("/a/b/c").get(0).inner(),
+                100
+            ).toString(),
+            Matchers.equalTo("/a/b/c: <c>x</c>")
+        );
+    }
+
+    @Test
+    void rendersBoundedMessageOfMiss() {
+        final String text = String.join("", Collections.nCopies(100_000, "<i>é</i>"));
+        final IndexOutOfBoundsException error = Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> new XMLDocument(String.format("<r>%s</r>", text))
+                .xpath("/r/absent/text()").get(0),
+            "Miss must throw"
+        );
+        MatcherAssert.assertThat(
+            "Message must have only an excerpt of the document",
+            error.getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("/r/absent/text()"),
+                Matchers.containsString("<r><i>\\uE9</i>")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Message must be short",
+            error.getMessage().length(),
+            Matchers.lessThan(Excerpt.DEFAULT * 6 + 200)
+        );
+    }
+
+    @Test
+    void keepsMessageOfMissWithoutDocument() throws Exception {
+        final IndexOutOfBoundsException error = Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> new XMLDocument("<r><i>1</i></r>").xpath("/r/x/text()").get(0),
+            "Miss must throw"
+        );
+        final String message = error.getMessage();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(baos)) {
+            output.writeObject(error);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(
+            new ByteArrayInputStream(baos.toByteArray())
+        )) {
+            MatcherAssert.assertThat(
+                "Message must be rendered once and kept without the document",
+                ((Throwable) input.readObject()).getMessage(),
+                Matchers.allOf(
+                    Matchers.equalTo(message),
+                    Matchers.containsString("<r><i>1</i></r>")
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Extractor}.
+ * @since 0.36.0
+ */
+final class ExtractorTest {
+
+    @Test
+    void extractsFieldsFromManyDocuments() {
+        final Extractor extractor = new Extractor(ExtractorTest.queries());
+        for (int idx = 0; idx < 3; ++idx) {
+            final Map<String, List<String>> fields = extractor.extract(
+                new XMLDocument(
+                    String.format(
+                        "<r id='%d'><t>first</t><t>second</t></r>", idx
+                    )
+                )
+            );
+            MatcherAssert.assertThat(
+                "Attribute must be extracted",
+                fields.get("id"),
+                Matchers.contains(String.valueOf(idx))
+            );
+            MatcherAssert.assertThat(
+                "All texts must be extracted",
+                fields.get("titles"),
+                Matchers.contains("first", "second")
+            );
+            MatcherAssert.assertThat(
+                "Function must be evaluated as a string",
+                fields.get("total"),
+                Matchers.contains("2")
+            );
+        }
+    }
+
+    @Test
+    void keepsOrderOfQueries() {
+        MatcherAssert.assertThat(
+            "Results must be in the order of queries",
+            new Extractor(ExtractorTest.queries()).extract(
+                XMLDocument.compact("<r id='1'/>")
+            ).keySet(),
+            Matchers.contains("id", "titles", "total")
+        );
+    }
+
+    @Test
+    void resolvesPrefixesByItsContext() {
+        final Map<String, String> queries = new LinkedHashMap<>(1);
+        queries.put("name", "/x:a/x:name/text()");
+        MatcherAssert.assertThat(
+            "Prefix must be resolved by the context of the extractor",
+            new Extractor(queries, new XPathContext().add("x", "urn:x")).extract(
+                new XMLDocument("<a xmlns='urn:x'><name>Jeff</name></a>")
+            ).get("name"),
+            Matchers.contains("Jeff")
+        );
+    }
+
+    @Test
+    void rejectsInvalidQueryAtOnce() {
+        final Map<String, String> queries = new LinkedHashMap<>(1);
+        queries.put("broken", "/a[");
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Extractor(queries),
+            "Invalid query must be rejected by the constructor"
+        );
+    }
+
+    @Test
+    void extractsInManyThreads() {
+        final Extractor extractor = new Extractor(ExtractorTest.queries());
+        final XML xml = new XMLDocument("<r id='7'><t>a</t></r>");
+        MatcherAssert.assertThat(
+            "All threads must get the same values",
+            new Together<>(
+                thread -> extractor.extract(xml).get("id").get(0).equals("7")
+            ).asList(),
+            Matchers.everyItem(Matchers.is(true))
+        );
+    }
+
+    /**
+     * Queries for tests.
+     * @return Queries by names
+     */
+    private static Map<String, String> queries() {
+        final Map<String, String> queries = new LinkedHashMap<>(3);
+        queries.put("id", "/r/@id");
+        queries.put("titles", "/r/t/text()");
+        queries.put("total", "count(/r/t)");
+        return queries;
+    }
+}
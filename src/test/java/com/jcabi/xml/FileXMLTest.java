@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link FileXML}.
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+final class FileXMLTest {
+
+    @Test
+    void parsesFileAgainWhenModified(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("rules.xml");
+        FileXMLTest.write(file, "<r>first</r>", 0L);
+        final XML xml = new FileXML(file, 0L);
+        MatcherAssert.assertThat(
+            "The file must be parsed",
+            xml.xpath("/r/text()"),
+            Matchers.contains("first")
+        );
+        FileXMLTest.write(file, "<r>second</r>", 5000L);
+        MatcherAssert.assertThat(
+            "The modified file must be parsed again",
+            xml.xpath("/r/text()"),
+            Matchers.contains("second")
+        );
+    }
+
+    @Test
+    void doesNotParseUnmodifiedFile(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("same.xml");
+        FileXMLTest.write(file, "<s/>", 0L);
+        final XML xml = new FileXML(file, 0L);
+        MatcherAssert.assertThat(
+            "The same document must be used while the file is the same",
+            xml.inner(),
+            Matchers.sameInstance(xml.inner())
+        );
+    }
+
+    @Test
+    void keepsPreviousVersionIfBroken(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("broken.xml");
+        FileXMLTest.write(file, "<b>good</b>", 0L);
+        final XML xml = new FileXML(file, 0L);
+        xml.nodes("/b");
+        FileXMLTest.write(file, "<b>not finished", 5000L);
+        MatcherAssert.assertThat(
+            "The previous version must be kept",
+            xml.xpath("/b/text()"),
+            Matchers.contains("good")
+        );
+    }
+
+    @Test
+    void keepsNamespacesAfterReload(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("ns.xml");
+        FileXMLTest.write(file, "<a xmlns='urn:a'>1</a>", 0L);
+        final XML xml = new FileXML(file, 0L).registerNs("x", "urn:a");
+        xml.nodes("/x:a");
+        FileXMLTest.write(file, "<a xmlns='urn:a'>22</a>", 5000L);
+        MatcherAssert.assertThat(
+            "Registered namespaces must work with the new version",
+            xml.xpath("/x:a/text()"),
+            Matchers.contains("22")
+        );
+    }
+
+    @Test
+    void readsInManyThreads(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("many.xml");
+        FileXMLTest.write(file, "<m>v</m>", 0L);
+        final XML xml = new FileXML(file, 0L);
+        MatcherAssert.assertThat(
+            "All threads must see the document",
+            new Together<>(thread -> xml.xpath("/m/text()").get(0)).asList(),
+            Matchers.everyItem(Matchers.equalTo("v"))
+        );
+    }
+
+    @Test
+    void rejectsNegativeInterval(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new FileXML(dir.resolve("x.xml"), -1L),
+            "Negative interval must be rejected"
+        );
+    }
+
+    /**
+     * Write the file and move its modification time.
+     * @param file The file
+     * @param text Content
+     * @param shift How far to move the time, in milliseconds
+     * @throws IOException If fails
+     */
+    private static void write(final Path file, final String text,
+        final long shift) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(
+            file,
+            FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + shift)
+        );
+    }
+}
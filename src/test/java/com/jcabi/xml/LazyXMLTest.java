@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LazyXML}.
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+final class LazyXMLTest {
+
+    @Test
+    void printsOriginalTextWithoutParsing() {
+        final String xml = "<a>  <b x='1'/><!-- as is --></a>";
+        MatcherAssert.assertThat(
+            "Original text must be returned as is",
+            new LazyXML(xml.getBytes(StandardCharsets.UTF_8)).toString(),
+            Matchers.equalTo(xml)
+        );
+    }
+
+    @Test
+    void doesNotParseBrokenXmlUntilQueried() {
+        final XML xml = new LazyXML("<broken");
+        MatcherAssert.assertThat(
+            "Broken XML must pass through untouched",
+            xml.toString(),
+            Matchers.equalTo("<broken")
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> xml.xpath("/broken"),
+            "Broken XML must fail when queried"
+        );
+    }
+
+    @Test
+    void findsNodesWithXpath() {
+        MatcherAssert.assertThat(
+            "XPath must work on the lazily parsed document",
+            new LazyXML("<r><a>\u0443\u0440\u0430</a><a>B</a></r>").xpath("/r/a/text()"),
+            Matchers.hasItems("\u0443\u0440\u0430", "B")
+        );
+    }
+
+    @Test
+    void decodesBytesInDeclaredEncoding() {
+        final String xml = "<?xml version='1.0' encoding='ISO-8859-1'?><a>caf\u00e9</a>";
+        final XML lazy = new LazyXML(xml.getBytes(StandardCharsets.ISO_8859_1));
+        MatcherAssert.assertThat(
+            "Text must be decoded with the encoding of the declaration",
+            lazy.toString(),
+            Matchers.equalTo(xml)
+        );
+        MatcherAssert.assertThat(
+            "Parsed document must use the same encoding",
+            lazy.xpath("/a/text()").get(0),
+            Matchers.equalTo("caf\u00e9")
+        );
+    }
+
+    @Test
+    void parsesOnceInMultipleThreads() {
+        final XML xml = new LazyXML("<root><hey/></root>");
+        MatcherAssert.assertThat(
+            "All threads must see the same parsed document",
+            new Together<>(
+                thread -> xml.inner()
+            ).asList(),
+            Matchers.everyItem(Matchers.sameInstance(xml.inner()))
+        );
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Loader}.
+ * @since 0.36.0
+ */
+final class LoaderTest {
+
+    @Test
+    void loadsFileInBackground(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("a.xml");
+        Files.write(file, "<a><b>hey</b></a>".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Document must be loaded by the default executor",
+            XMLDocument.async(file).get(1L, TimeUnit.MINUTES)
+                .xpath("/a/b/text()"),
+            Matchers.contains("hey")
+        );
+    }
+
+    @Test
+    void loadsByGivenExecutor(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("b.xml");
+        Files.write(file, "<x>1</x>".getBytes(StandardCharsets.UTF_8));
+        final AtomicInteger tasks = new AtomicInteger();
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<XML> future = XMLDocument.async(
+                file.toUri(),
+                task -> {
+                    tasks.incrementAndGet();
+                    service.execute(task);
+                }
+            );
+            MatcherAssert.assertThat(
+                "Document must be loaded",
+                future.get(1L, TimeUnit.MINUTES).xpath("/x/text()"),
+                Matchers.contains("1")
+            );
+        } finally {
+            service.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Document must be loaded by the given executor",
+            tasks.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void completesExceptionallyOnFailure(@TempDir final Path dir) {
+        final ExecutionException ex = Assertions.assertThrows(
+            ExecutionException.class,
+            () -> XMLDocument.async(dir.resolve("absent.xml").toUri().toURL())
+                .get(1L, TimeUnit.MINUTES),
+            "Missing document must not be loaded"
+        );
+        MatcherAssert.assertThat(
+            "The cause of the failure must be kept",
+            ex.getCause(),
+            Matchers.instanceOf(IOException.class)
+        );
+    }
+}
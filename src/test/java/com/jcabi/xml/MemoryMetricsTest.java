@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MemoryMetrics}.
+ * @since 0.36.0
+ */
+final class MemoryMetricsTest {
+
+    @AfterEach
+    void uninstall() {
+        XMLMetrics.install(Metrics.NONE);
+    }
+
+    @Test
+    void countsParsingAndQueries() {
+        final MemoryMetrics metrics = new MemoryMetrics();
+        XMLMetrics.install(metrics);
+        new XMLDocument("<a><b>1</b></a>").xpath("/a/b/text()");
+        MatcherAssert.assertThat(
+            "Parsing must be counted",
+            metrics.count("parse"),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "Bytes parsed must be counted",
+            metrics.bytes("parse"),
+            Matchers.equalTo(15L)
+        );
+        MatcherAssert.assertThat(
+            "XPath must be counted",
+            metrics.count("xpath"),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void countsFailures() {
+        final MemoryMetrics metrics = new MemoryMetrics();
+        XMLMetrics.install(metrics);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new XMLDocument("<broken"),
+            "Broken XML must not be parsed"
+        );
+        MatcherAssert.assertThat(
+            "Failure must be counted",
+            metrics.snapshot().get("parse.failures"),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "Failure must not be counted as success",
+            metrics.snapshot().get("parse.count"),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void countsScalarQueryOnce() {
+        final MemoryMetrics metrics = new MemoryMetrics();
+        XMLMetrics.install(metrics);
+        new XMLDocument("<a><b>1</b></a>").xpath("count(/a/b)");
+        MatcherAssert.assertThat(
+            "Scalar query must be counted once",
+            metrics.count("xpath"),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "Scalar query must not be counted as failed",
+            metrics.failures("xpath"),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void calculatesQuantiles() {
+        final MemoryMetrics metrics = new MemoryMetrics();
+        for (long nanos = 1L; nanos <= 100L; ++nanos) {
+            metrics.done("op", nanos, 0L);
+        }
+        MatcherAssert.assertThat(
+            "Median must be in its bucket",
+            metrics.quantile("op", 0.5),
+            Matchers.equalTo(63L)
+        );
+        MatcherAssert.assertThat(
+            "Maximum must be in its bucket",
+            metrics.quantile("op", 1.0),
+            Matchers.equalTo(127L)
+        );
+        MatcherAssert.assertThat(
+            "Unknown operation must have no time",
+            metrics.quantile("unknown", 0.99),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void collectsNothingByDefault() {
+        MatcherAssert.assertThat(
+            "No metrics must be installed by default",
+            XMLMetrics.installed(),
+            Matchers.sameInstance(Metrics.NONE)
+        );
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Node;
+
+/**
+ * JMH benchmark of the heap taken by many small documents of the same schema.
+ *
+ * <p>Every invocation parses {@link #TOTAL} documents and keeps them all
+ * in memory, then reports the heap they occupy, in bytes per document,
+ * as the {@code bytes} secondary result. Three modes are compared:
+ * <ul>
+ *   <li>{@code dom} — regular DOM, by {@link DomParser#document()}</li>
+ *   <li>{@code isolated} — compact DOM with names kept by every
+ *   document in its own table</li>
+ *   <li>{@code shared} — compact DOM with names kept once,
+ *   in {@link NamePool}</li>
+ * </ul>
+ *
+ * @since 0.36.0
+ * @checkstyle NonStaticMethodCheck (200 lines)
+ * @checkstyle VisibilityModifierCheck (200 lines)
+ */
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class NamePoolBenchmark {
+
+    /**
+     * How many documents to keep.
+     */
+    private static final int TOTAL = 20_000;
+
+    /**
+     * How documents are parsed.
+     */
+    @Param({"dom", "isolated", "shared"})
+    public String mode;
+
+    /**
+     * Parse all documents and measure the heap they take.
+     * @param footprint Where to report the heap
+     * @return Documents
+     */
+    @Benchmark
+    public final Node[] parse(final NamePoolBenchmark.Footprint footprint) {
+        final long before = NamePoolBenchmark.used();
+        final Node[] docs = new Node[NamePoolBenchmark.TOTAL];
+        for (int idx = 0; idx < docs.length; ++idx) {
+            final DomParser parser = new DomParser(
+                BuilderPool.DEFAULT, NamePoolBenchmark.order(idx)
+            );
+            if ("dom".equals(this.mode)) {
+                docs[idx] = parser.document();
+            } else if ("isolated".equals(this.mode)) {
+                docs[idx] = parser.compact(new NamePool(0));
+            } else {
+                docs[idx] = parser.compact();
+            }
+        }
+        footprint.bytes = (NamePoolBenchmark.used() - before) / docs.length;
+        return docs;
+    }
+
+    /**
+     * Heap used now, after garbage collection.
+     * @return Bytes
+     */
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    private static long used() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int attempt = 0; attempt < 3; ++attempt) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Small document, always of the same schema.
+     * @param idx Number of the document
+     * @return XML text
+     */
+    private static String order(final int idx) {
+        return String.format(
+            String.join(
+                "",
+                "<o:order xmlns:o='urn:example:order' xmlns:c='urn:example:customer' id='%d'>",
+                "<o:date>2024-01-%02d</o:date>",
+                "<c:customer c:id='c%d'><c:name>Customer %1$d</c:name></c:customer>",
+                "<o:items><o:item sku='a%1$d' qty='1'/><o:item sku='b%1$d' qty='2'/></o:items>",
+                "</o:order>"
+            ),
+            idx, idx % 28 + 1, idx % 100
+        );
+    }
+
+    /**
+     * Heap taken by one document, reported by JMH as a secondary result.
+     *
+     * @since 0.36.0
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /**
+         * Bytes per document.
+         */
+        public long bytes;
+    }
+}
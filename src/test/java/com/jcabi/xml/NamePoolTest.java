@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+/**
+ * Test case for {@link NamePool}.
+ * @since 0.36.0
+ */
+final class NamePoolTest {
+
+    @Test
+    void sharesNamesBetweenDocuments() {
+        final NamePool pool = new NamePool(16);
+        final Document first = new DomParser(
+            BuilderPool.DEFAULT, "<a xmlns='urn:a' b='1'><c/></a>"
+        ).compact(pool);
+        final Document second = new DomParser(
+            BuilderPool.DEFAULT, "<a xmlns='urn:a' b='2'><c/></a>"
+        ).compact(pool);
+        MatcherAssert.assertThat(
+            "Same names must be kept once",
+            pool.toString(),
+            Matchers.equalTo("6 of 16 name(s)")
+        );
+        MatcherAssert.assertThat(
+            "Names must be the same objects",
+            second.getDocumentElement().getNamespaceURI(),
+            Matchers.sameInstance(first.getDocumentElement().getNamespaceURI())
+        );
+    }
+
+    @Test
+    void keepsNamesInDocumentWhenFull() {
+        final NamePool pool = new NamePool(1);
+        MatcherAssert.assertThat(
+            "Names that don't fit into the pool must still be found",
+            new XMLDocument(
+                new DomParser(BuilderPool.DEFAULT, "<a><b x='1'/><c/></a>")
+                    .compact(pool)
+            ).xpath("/a/b/@x"),
+            Matchers.contains("1")
+        );
+        MatcherAssert.assertThat(
+            "Pool must not grow beyond its capacity",
+            pool.size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void givesSameNumbersInMultipleThreads() {
+        final NamePool pool = new NamePool(1024);
+        MatcherAssert.assertThat(
+            "Every name must get exactly one number",
+            new Together<>(
+                thread -> pool.id(String.format("name-%d", thread % 4))
+            ).asList().stream().distinct().count(),
+            Matchers.equalTo(4L)
+        );
+    }
+
+    @Test
+    void rejectsNegativeCapacity() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new NamePool(-1),
+            "Pool with negative capacity must be rejected"
+        );
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ParallelSplit}.
+ * @since 0.36.0
+ */
+final class ParallelSplitTest {
+
+    @Test
+    void keepsOriginalOrder() throws Exception {
+        final int total = 200;
+        final ExecutorService exec = Executors.newFixedThreadPool(8);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            MatcherAssert.assertThat(
+                "All records must be processed",
+                new ParallelSplit(
+                    "/feed/entry",
+                    new XPathContext(),
+                    record -> {
+                        TimeUnit.MILLISECONDS.sleep(
+                            ThreadLocalRandom.current().nextLong(5L)
+                        );
+                        return new XMLDocument(
+                            String.format(
+                                "<done>%s</done>",
+                                record.xpath("/entry/@id").get(0)
+                            )
+                        );
+                    },
+                    exec,
+                    4
+                ).process(ParallelSplitTest.feed(total), output),
+                Matchers.equalTo((long) total)
+            );
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Results must be in the same order as records",
+            new XMLDocument(output.toByteArray()).xpath("/feed/done/text()"),
+            Matchers.equalTo(
+                IntStream.range(0, total).mapToObj(String::valueOf)
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void wrapsIntoNamespacedRoot() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            new ParallelSplit(
+                "/f:feed/f:entry",
+                new XPathContext().add("f", "urn:f"),
+                record -> record,
+                exec,
+                1
+            ).process(
+                new ByteArrayInputStream(
+                    "<feed xmlns='urn:f'><entry>x</entry></feed>"
+                        .getBytes(StandardCharsets.UTF_8)
+                ),
+                output
+            );
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Records must stay in their namespace",
+            new XMLDocument(output.toByteArray())
+                .registerNs("f", "urn:f")
+                .xpath("/f:feed/f:entry/text()"),
+            Matchers.contains("x")
+        );
+    }
+
+    @Test
+    void rethrowsFailureOfTask() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new ParallelSplit(
+                "/feed/entry",
+                record -> {
+                    throw new IllegalStateException("broken record");
+                }
+            ).process(ParallelSplitTest.feed(3), new ByteArrayOutputStream()),
+            "Failure of the task must be propagated"
+        );
+    }
+
+    @Test
+    void writesNothingForWildcardRoot() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ParallelSplit("/*/entry", record -> record)
+                .process(ParallelSplitTest.feed(3), output),
+            "Wildcard root must be rejected"
+        );
+        MatcherAssert.assertThat(
+            "Nothing must be written before the path is validated",
+            output.size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void rejectsUnboundPrefixOfRoot() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ParallelSplit(
+                "/f:feed/f:entry", new XPathContext(), record -> record,
+                ForkJoinPool.commonPool(), 2
+            ).process(ParallelSplitTest.feed(3), output),
+            "Unbound prefix must be rejected"
+        );
+        MatcherAssert.assertThat(
+            "Nothing must be written for unbound prefix",
+            output.size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void closesInputWhenTaskFails() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new ParallelSplit(
+                "/feed/entry",
+                record -> {
+                    throw new IllegalStateException("broken record");
+                }
+            ).process(
+                new FilterInputStream(ParallelSplitTest.feed(30)) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                },
+                new ByteArrayOutputStream()
+            ),
+            "Failure of the task must be propagated"
+        );
+        MatcherAssert.assertThat(
+            "Input must be closed",
+            closed.get(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Make a feed.
+     * @param total How many entries
+     * @return The stream with XML
+     */
+    private static InputStream feed(final int total) {
+        return new ByteArrayInputStream(
+            IntStream.range(0, total)
+                .mapToObj(idx -> String.format("<entry id='%d'/>", idx))
+                .collect(Collectors.joining("", "<feed>", "</feed>"))
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ParserProfile}.
+ * @since 0.36.0
+ */
+final class ParserProfileTest {
+
+    @Test
+    void dropsWhitespaceCommentsAndInstructions() {
+        final XML xml = new XMLDocument(
+            "<a>\n  <!-- c --><?pi x?>\n  <b> </b><c xml:space='preserve'> </c>\n</a>",
+            ParserProfile.TRIMMED
+        );
+        MatcherAssert.assertThat(
+            "Only meaningful nodes must be kept",
+            xml.xpath("count(/a/node())"),
+            Matchers.contains("2")
+        );
+        MatcherAssert.assertThat(
+            "Whitespace must be kept where xml:space is preserve",
+            xml.xpath("string-length(/a/c)"),
+            Matchers.contains("1")
+        );
+    }
+
+    @Test
+    void trimsVeryDeepDocument() {
+        final int depth = 50_000;
+        final StringBuilder xml = new StringBuilder(depth * 12);
+        for (int idx = 0; idx < depth; ++idx) {
+            xml.append("<a> <?pi?>");
+        }
+        for (int idx = 0; idx < depth; ++idx) {
+            xml.append("</a>");
+        }
+        MatcherAssert.assertThat(
+            "Deep document must be trimmed without recursion",
+            new XMLDocument(xml.toString(), ParserProfile.TRIMMED)
+                .inner().getFirstChild().getFirstChild().getNodeName(),
+            Matchers.equalTo("a")
+        );
+    }
+
+    @Test
+    void sharesBuildersOfDefaultProfile() {
+        MatcherAssert.assertThat(
+            "Default profile must parse by the default pool",
+            ParserProfile.DEFAULT.pool(),
+            Matchers.sameInstance(BuilderPool.DEFAULT)
+        );
+    }
+
+    @Test
+    void keepsEverythingByDefault() {
+        MatcherAssert.assertThat(
+            "Default profile must keep all nodes",
+            new XMLDocument(
+                "<a> <!-- c --><?pi x?></a>", ParserProfile.DEFAULT
+            ).xpath("count(/a/node())"),
+            Matchers.contains("3")
+        );
+    }
+
+    @Test
+    void rejectsDoctypeWhenStrict() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new XMLDocument(
+                "<!DOCTYPE a [<!ENTITY e 'x'>]><a>&e;</a>",
+                ParserProfile.STRICT
+            ),
+            "DOCTYPE must not be allowed by strict profile"
+        );
+    }
+
+    @Test
+    void ignoresNamespaces() {
+        MatcherAssert.assertThat(
+            "Prefixes must stay in names",
+            new XMLDocument(
+                "<x:a xmlns:x='urn:x'><x:b>1</x:b></x:a>",
+                ParserProfile.NS_UNAWARE
+            ).xpath("/*[name()='x:a']/*[name()='x:b']/text()"),
+            Matchers.contains("1")
+        );
+    }
+}
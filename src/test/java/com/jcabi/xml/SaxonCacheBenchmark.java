@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.xml.transform.stream.StreamSource;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.XPathSelector;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for {@link SaxonCache}.
+ *
+ * <p>Two scenarios, both evaluating the same short query on the same
+ * small document by the same Saxon processor:
+ * <ul>
+ *   <li>{@link #compileEveryCall} — the query is compiled on every call
+ *   by one shared {@link XPathCompiler}, as {@link SaxonDocument} did it
+ *   before {@link SaxonCache}</li>
+ *   <li>{@link #cachedExecutable} — the compiled query is taken from
+ *   the cache</li>
+ * </ul>
+ *
+ * @since 0.36.0
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SaxonCacheBenchmark {
+
+    /**
+     * The query.
+     */
+    private static final String QUERY = "/message/items/item[@id='7']/name/text()";
+
+    /**
+     * Saxon processor.
+     */
+    private static final Processor SAXON = new Processor(false);
+
+    /**
+     * Compiler, shared by all calls.
+     */
+    private static final XPathCompiler COMPILER = SaxonCacheBenchmark.SAXON.newXPathCompiler();
+
+    /**
+     * The cache.
+     */
+    private static final SaxonCache CACHE = new SaxonCache(SaxonCacheBenchmark.SAXON, 1024);
+
+    /**
+     * Small XML document.
+     */
+    private static final XdmNode DOC = SaxonCacheBenchmark.message(40);
+
+    /**
+     * Compilation on every call.
+     * @return The result
+     * @throws SaxonApiException If fails
+     */
+    @Benchmark
+    public final XdmValue compileEveryCall() throws SaxonApiException {
+        final XPathSelector selector = SaxonCacheBenchmark.COMPILER
+            .compile(SaxonCacheBenchmark.QUERY).load();
+        selector.setContextItem(SaxonCacheBenchmark.DOC);
+        return selector.evaluate();
+    }
+
+    /**
+     * Compiled query from the cache.
+     * @return The result
+     * @throws SaxonApiException If fails
+     */
+    @Benchmark
+    public final XdmValue cachedExecutable() throws SaxonApiException {
+        final XPathSelector selector = SaxonCacheBenchmark.CACHE
+            .executable(SaxonCacheBenchmark.QUERY, Collections.emptyMap()).load();
+        selector.setContextItem(SaxonCacheBenchmark.DOC);
+        return selector.evaluate();
+    }
+
+    /**
+     * Build a message with the given number of items.
+     * @param total How many items
+     * @return The document
+     */
+    private static XdmNode message(final int total) {
+        final StringBuilder xml = new StringBuilder("<message><items>");
+        for (int idx = 0; idx < total; ++idx) {
+            xml.append("<item id='").append(idx).append("'>")
+                .append("<name>Item number ").append(idx).append("</name>")
+                .append("</item>");
+        }
+        try {
+            return SaxonCacheBenchmark.SAXON.newDocumentBuilder().build(
+                new StreamSource(
+                    new StringReader(xml.append("</items></message>").toString())
+                )
+            );
+        } catch (final SaxonApiException ex) {
+            throw new IllegalStateException("Failed to build the document", ex);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import java.util.Collections;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SaxonCache}.
+ * @since 0.36.0
+ */
+final class SaxonCacheTest {
+
+    @Test
+    void compilesQueryOnlyOnce() throws Exception {
+        final SaxonCache cache = new SaxonCache(new Processor(false), 8);
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                "The same compiled query must be returned",
+                cache.executable("/a/b/text()", Collections.emptyMap()),
+                Matchers.sameInstance(
+                    cache.executable("/a/b/text()", Collections.emptyMap())
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "The query must be compiled once and reused",
+            cache.toString(),
+            Matchers.equalTo("1 quer(ies) of 8, 5 hit(s), 1 miss(es)")
+        );
+    }
+
+    @Test
+    void separatesNamespaceBindings() throws Exception {
+        final SaxonCache cache = new SaxonCache(new Processor(false), 8);
+        MatcherAssert.assertThat(
+            "Queries with different bindings must be compiled separately",
+            cache.executable("//x:b", Collections.singletonMap("x", "urn:one")),
+            Matchers.not(
+                Matchers.sameInstance(
+                    cache.executable("//x:b", Collections.singletonMap("x", "urn:two"))
+                )
+            )
+        );
+    }
+
+    @Test
+    void keepsLimitedNumberOfQueries() throws Exception {
+        final SaxonCache cache = new SaxonCache(new Processor(false), 2);
+        for (int idx = 0; idx < 10; ++idx) {
+            cache.executable(String.format("count(/z) + %d", idx), Collections.emptyMap());
+        }
+        MatcherAssert.assertThat(
+            "Number of queries must be bounded",
+            cache.toString(),
+            Matchers.startsWith("2 quer(ies) of 2")
+        );
+    }
+
+    @Test
+    void rejectsZeroCapacity() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new SaxonCache(new Processor(false), 0),
+            "Empty cache must not be created"
+        );
+    }
+
+    @Test
+    void compilesInManyThreads() throws SaxonApiException {
+        final SaxonCache cache = new SaxonCache(new Processor(false), 4);
+        cache.executable("/r/i", Collections.emptyMap());
+        MatcherAssert.assertThat(
+            "All threads must get the same compiled query",
+            new Together<>(
+                thread -> cache.executable("/r/i", Collections.emptyMap())
+            ).asList(),
+            Matchers.everyItem(
+                Matchers.sameInstance(cache.executable("/r/i", Collections.emptyMap()))
+            )
+        );
+    }
+}
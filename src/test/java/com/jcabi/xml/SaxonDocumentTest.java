@@ -67,6 +67,68 @@ final class SaxonDocumentTest {
         );
     }
 
+    @Test
+    void evaluatesTypedScalars() {
+        final XML xml = new SaxonDocument(
+            "<order><item price='2.5'/><item price='4'/></order>"
+        );
+        MatcherAssert.assertThat(
+            "Sum must be evaluated as a number",
+            xml.number("sum(/order/item/@price)"),
+            Matchers.equalTo(6.5)
+        );
+        MatcherAssert.assertThat(
+            "Nodes must be counted",
+            xml.count("/order/item"),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "Absent attribute must be FALSE",
+            xml.bool("/order/@paid"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "String value of the first node must be returned",
+            xml.string("/order/item/@price"),
+            Matchers.equalTo("2.5")
+        );
+    }
+
+    @Test
+    void evaluatesSequencesAsOneArgument() {
+        final XML xml = new SaxonDocument("<r><a/><b/><b/></r>");
+        MatcherAssert.assertThat(
+            "Sequence must be counted as a whole",
+            xml.count("//a, //b"),
+            Matchers.equalTo(3)
+        );
+        MatcherAssert.assertThat(
+            "Sequence must be checked for existence as a whole",
+            xml.exists("//x, //b"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Sequence of nodes must be TRUE",
+            xml.bool("//a, //b"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsFirstNodeOnly() {
+        final XML xml = new SaxonDocument("<a><b>1</b><b>2</b></a>");
+        MatcherAssert.assertThat(
+            "The first text must be found",
+            xml.first("/a/b/text()"),
+            Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            "Absent element must not be found",
+            xml.exists("/a/c"),
+            Matchers.is(false)
+        );
+    }
+
     @Test
     void createsFromUrl() throws IOException {
         final URL resource = this.getClass().getResource("simple.xml");
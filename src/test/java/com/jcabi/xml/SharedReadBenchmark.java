@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for concurrent XPath queries to one document.
+ *
+ * <p>All threads query the same catalog of about 500 items, which is
+ * either a regular DOM, where queries are evaluated one by one,
+ * or its copy made by {@link XMLDocument#shared(XML)}, where they are
+ * evaluated in parallel. Each scenario runs in one thread and in four,
+ * the throughput of the latter shows how it scales across cores:
+ * <ul>
+ *   <li>{@link #lockedOneThread} and {@link #lockedFourThreads} —
+ *   regular {@link XMLDocument}</li>
+ *   <li>{@link #sharedOneThread} and {@link #sharedFourThreads} —
+ *   compact, read-only copy</li>
+ * </ul>
+ *
+ * @since 0.36.0
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SharedReadBenchmark {
+
+    /**
+     * The query.
+     */
+    private static final String QUERY = "/catalog/item[@id='250']/price/text()";
+
+    /**
+     * Regular document.
+     */
+    private static final XML LOCKED = new XMLDocument(
+        SharedReadBenchmark.catalog(500)
+    );
+
+    /**
+     * Shared copy of the same document.
+     */
+    private static final XML SHARED = XMLDocument.shared(SharedReadBenchmark.LOCKED);
+
+    /**
+     * Regular document, one thread.
+     * @return Result of the query
+     */
+    @Benchmark
+    @Threads(1)
+    public final List<String> lockedOneThread() {
+        return SharedReadBenchmark.LOCKED.xpath(SharedReadBenchmark.QUERY);
+    }
+
+    /**
+     * Regular document, four threads.
+     * @return Result of the query
+     */
+    @Benchmark
+    @Threads(4)
+    public final List<String> lockedFourThreads() {
+        return SharedReadBenchmark.LOCKED.xpath(SharedReadBenchmark.QUERY);
+    }
+
+    /**
+     * Shared copy, one thread.
+     * @return Result of the query
+     */
+    @Benchmark
+    @Threads(1)
+    public final List<String> sharedOneThread() {
+        return SharedReadBenchmark.SHARED.xpath(SharedReadBenchmark.QUERY);
+    }
+
+    /**
+     * Shared copy, four threads.
+     * @return Result of the query
+     */
+    @Benchmark
+    @Threads(4)
+    public final List<String> sharedFourThreads() {
+        return SharedReadBenchmark.SHARED.xpath(SharedReadBenchmark.QUERY);
+    }
+
+    /**
+     * Build a catalog with the given number of items.
+     * @param total How many items
+     * @return XML text
+     */
+    private static String catalog(final int total) {
+        final StringBuilder xml = new StringBuilder("<catalog>");
+        for (int idx = 0; idx < total; ++idx) {
+            xml.append("<item id='").append(idx).append("'>")
+                .append("<name>Item number ").append(idx).append("</name>")
+                .append("<price>").append(idx * 3).append(".99</price>")
+                .append("</item>");
+        }
+        return xml.append("</catalog>").toString();
+    }
+}
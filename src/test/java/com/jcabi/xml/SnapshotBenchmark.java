@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for {@link XMLDocument#restore(java.io.InputStream)}.
+ *
+ * <p>The same document, of about 200 KB, is loaded from bytes in three ways:
+ * <ul>
+ *   <li>{@link #parseText} — parsed from text into a regular DOM</li>
+ *   <li>{@link #parseCompact} — parsed from text into a compact DOM</li>
+ *   <li>{@link #restoreSnapshot} — restored from its binary snapshot</li>
+ * </ul>
+ *
+ * @since 0.36.0
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+    /**
+     * XML document, as text.
+     */
+    private byte[] text;
+
+    /**
+     * The same document, as a snapshot.
+     */
+    private byte[] binary;
+
+    /**
+     * Prepare both forms of the document.
+     * @throws IOException If fails
+     */
+    @Setup
+    public final void setup() throws IOException {
+        final StringBuilder xml = new StringBuilder("<catalog xmlns='urn:c'>");
+        for (int idx = 0; idx < 2000; ++idx) {
+            xml.append("<book id='").append(idx).append("' lang='en'>")
+                .append("<title>Book &amp; number ").append(idx).append("</title>")
+                .append("<price>").append(idx % 100).append(".99</price>")
+                .append("</book>");
+        }
+        this.text = xml.append("</catalog>").toString()
+            .getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        XMLDocument.snapshot(new XMLDocument(this.text), output);
+        this.binary = output.toByteArray();
+    }
+
+    /**
+     * Parse text into a regular DOM.
+     * @return The document
+     */
+    @Benchmark
+    public final XML parseText() {
+        return new XMLDocument(this.text);
+    }
+
+    /**
+     * Parse text into a compact DOM.
+     * @return The document
+     */
+    @Benchmark
+    public final XML parseCompact() {
+        return XMLDocument.compact(this.text);
+    }
+
+    /**
+     * Restore the snapshot.
+     * @return The document
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public final XML restoreSnapshot() throws IOException {
+        return XMLDocument.restore(new ByteArrayInputStream(this.binary));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+
+/**
+ * Test case for {@link Snapshot}.
+ * @since 0.36.0
+ */
+final class SnapshotTest {
+
+    /**
+     * Sample document.
+     */
+    private static final String XML = String.join(
+        "",
+        "<?xml version='1.0'?><!-- top -->",
+        "<root xmlns='urn:r' xmlns:x='urn:x' a='&lt;1&gt;'>",
+        "<x:item x:id='7'>héllo &amp; <![CDATA[ <w> ]]>",
+        "world</x:item><item>two<i/>three</item><?pi data?>",
+        "<!-- inner --><empty/></root>"
+    );
+
+    @Test
+    void restoresSameDocument() throws IOException {
+        final XML origin = new XMLDocument(SnapshotTest.XML);
+        MatcherAssert.assertThat(
+            "Restored document must be printed exactly as the original one",
+            SnapshotTest.restored(origin).toString(),
+            Matchers.equalTo(origin.toString())
+        );
+    }
+
+    @Test
+    void restoresNamespaces() throws IOException {
+        MatcherAssert.assertThat(
+            "Namespaced queries must work on the restored document",
+            SnapshotTest.restored(XMLDocument.compact(SnapshotTest.XML))
+                .registerNs("r", "urn:r")
+                .registerNs("x", "urn:x")
+                .xpath("/r:root/x:item/@x:id | /r:root/@a | //r:i/../text()"),
+            Matchers.contains("<1>", "7", "two", "three")
+        );
+    }
+
+    @Test
+    void restoresElementAsDocument() throws IOException {
+        MatcherAssert.assertThat(
+            "Snapshot of an element must be restored as a document",
+            SnapshotTest.restored(
+                new XMLDocument("<a><b><c>x</c></b></a>").nodes("/a/b").get(0)
+            ).xpath("/b/c/text()"),
+            Matchers.contains("x")
+        );
+    }
+
+    @Test
+    void rejectsBrokenSnapshot() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> XMLDocument.restore(
+                new ByteArrayInputStream(
+                    "<a/>".getBytes(StandardCharsets.UTF_8)
+                )
+            ),
+            "Text XML must not be accepted as a snapshot"
+        );
+    }
+
+    @Test
+    void rejectsTruncatedSnapshot() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        XMLDocument.snapshot(new XMLDocument(SnapshotTest.XML), output);
+        final byte[] bytes = output.toByteArray();
+        for (int len = 4; len < bytes.length; len += 7) {
+            final byte[] head = Arrays.copyOf(bytes, len);
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> XMLDocument.restore(new ByteArrayInputStream(head)),
+                String.format("Snapshot cut at %d byte(s) must be rejected", len)
+            );
+        }
+    }
+
+    @Test
+    void rejectsUnknownName() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> XMLDocument.restore(
+                SnapshotTest.snapshot(1, 'a', 1, Node.ELEMENT_NODE, 1, 5, 0, 0, 0)
+            ),
+            "Name, which is not in the names, must be rejected"
+        );
+    }
+
+    @Test
+    void rejectsParentOutsideOfDocument() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> XMLDocument.restore(
+                SnapshotTest.snapshot(
+                    1, 'a', 2, Node.ELEMENT_NODE, 1, 1, 1, 0, 0,
+                    Node.ELEMENT_NODE, 9, 1, 1, 0, 0
+                )
+            ),
+            "Parent before the document must be rejected"
+        );
+    }
+
+    @Test
+    void rejectsTextAsParent() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> XMLDocument.restore(
+                SnapshotTest.snapshot(
+                    1, 'a', 3, Node.ELEMENT_NODE, 1, 1, 1, 0, 0,
+                    Node.TEXT_NODE, 1, 0, 0, 0, 2, 'x',
+                    Node.ELEMENT_NODE, 1, 1, 1, 0, 0
+                )
+            ),
+            "Node inside of a text must be rejected"
+        );
+    }
+
+    @Test
+    void rejectsDocumentType() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> XMLDocument.snapshot(
+                new XMLDocument("<!DOCTYPE a [<!ENTITY e 'x'>]><a>&e;</a>"),
+                new ByteArrayOutputStream()
+            ),
+            "DTD must not be silently dropped"
+        );
+    }
+
+    /**
+     * Make a snapshot of bytes, after the magic.
+     * @param bytes The bytes
+     * @return Stream of the snapshot
+     */
+    private static InputStream snapshot(final int... bytes) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write('J');
+        output.write('X');
+        output.write('S');
+        output.write(1);
+        for (final int data : bytes) {
+            output.write(data);
+        }
+        return new ByteArrayInputStream(output.toByteArray());
+    }
+
+    /**
+     * Save and restore.
+     * @param xml The document
+     * @return Restored document
+     * @throws IOException If fails
+     */
+    private static XML restored(final XML xml) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        XMLDocument.snapshot(xml, output);
+        return XMLDocument.restore(new ByteArrayInputStream(output.toByteArray()));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link StreamingXML}.
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class StreamingXMLTest {
+
+    /**
+     * Sample feed.
+     */
+    private static final String FEED = String.join(
+        "",
+        "<feed version='2'>",
+        "<entry><id>first</id><title lang='en'>One</title></entry>",
+        "<entry><id>second</id><title>Two</title></entry>",
+        "<other><id>ignored</id></other>",
+        "</feed>"
+    );
+
+    @Test
+    void findsTextsAndAttributesInOnePass() {
+        final StreamingXML xml = new StreamingXML(
+            StreamingXMLTest.stream(StreamingXMLTest.FEED),
+            "/feed/entry/id/text()", "/feed/@version", "/feed/entry/title/@lang"
+        );
+        MatcherAssert.assertThat(
+            "Texts must be found in document order",
+            xml.xpath("/feed/entry/id/text()"),
+            Matchers.contains("first", "second")
+        );
+        MatcherAssert.assertThat(
+            "Attribute of the root must be found",
+            xml.xpath("/feed/@version"),
+            Matchers.contains("2")
+        );
+        MatcherAssert.assertThat(
+            "Only existing attributes must be found",
+            xml.xpath("/feed/entry/title/@lang"),
+            Matchers.contains("en")
+        );
+    }
+
+    @Test
+    void returnsSameValuesAsXmlDocument() {
+        final String text = String.join(
+            "",
+            "<a>  x<b>y</b>z<b>y2</b>",
+            "<!-- c -->tail<?pi?>end</a>"
+        );
+        for (final String query : Arrays.asList("/a/text()", "/a/b/text()", "/a/*/text()")) {
+            MatcherAssert.assertThat(
+                String.format("Result of '%s' must be the same as of XMLDocument", query),
+                new StreamingXML(StreamingXMLTest.stream(text), query).xpath(query),
+                Matchers.equalTo(new XMLDocument(text).xpath(query))
+            );
+        }
+    }
+
+    @Test
+    void joinsCdataWithAdjacentText() {
+        MatcherAssert.assertThat(
+            "CDATA must be a part of the surrounding text node",
+            new StreamingXML(
+                StreamingXMLTest.stream("<a>x<![CDATA[<y>]]>z</a>"),
+                "/a/text()"
+            ).xpath("/a/text()"),
+            Matchers.contains("x<y>z")
+        );
+    }
+
+    @Test
+    void findsByNamespacePrefix() {
+        MatcherAssert.assertThat(
+            "Prefixed names must be matched by namespace",
+            new StreamingXML(
+                StreamingXMLTest.stream(
+                    "<x:a xmlns:x='urn:x'><b>no</b><x:b>yes</x:b></x:a>"
+                ),
+                new XPathContext().add("f", "urn:x"),
+                Arrays.asList("/f:a/f:b/text()")
+            ).xpath("/f:a/f:b/text()"),
+            Matchers.contains("yes")
+        );
+    }
+
+    @Test
+    void readsFile(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("feed.xml");
+        Files.write(file, StreamingXMLTest.FEED.getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Values must be found in the file",
+            new StreamingXML(file, "/feed/other/id/text()")
+                .xpath("/feed/other/id/text()"),
+            Matchers.contains("ignored")
+        );
+    }
+
+    @Test
+    void rejectsUnsupportedQueries() {
+        for (final String query : Arrays.asList("//id/text()", "/a/b", "/a/b[1]/@c", "count(/a)")) {
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new StreamingXML(StreamingXMLTest.stream("<a/>"), query),
+                String.format("Query '%s' must be rejected", query)
+            );
+        }
+    }
+
+    @Test
+    void rejectsUnknownQuery() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new StreamingXML(
+                StreamingXMLTest.stream("<a x='1'/>"), "/a/@x"
+            ).xpath("/a/@y"),
+            "Query that was not registered must be rejected"
+        );
+    }
+
+    /**
+     * Make a stream from a string.
+     * @param text The text
+     * @return Stream
+     */
+    private static InputStream stream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.DOMException;
+
+/**
+ * Test case for {@link XMLCache}.
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+final class XMLCacheTest {
+
+    @Test
+    void returnsSameDocumentForSameText() {
+        final XMLCache cache = new XMLCache();
+        final XML first = cache.xml("<a>1</a>");
+        MatcherAssert.assertThat(
+            "The same document must be returned for the same text",
+            cache.xml("<a>1</a>"),
+            Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(
+            "Hits and misses must be counted",
+            cache.toString(),
+            Matchers.equalTo("1 document(s), 1 hit(s), 1 miss(es), 0 eviction(s)")
+        );
+    }
+
+    @Test
+    void parsesModifiedFileAgain(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("config.xml");
+        Files.write(file, "<c>old</c>".getBytes(StandardCharsets.UTF_8));
+        final XMLCache cache = new XMLCache();
+        final XML first = cache.xml(file);
+        MatcherAssert.assertThat(
+            "The same document must be returned for unchanged file",
+            cache.xml(file),
+            Matchers.sameInstance(first)
+        );
+        Files.write(file, "<c>newer</c>".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(
+            file, FileTime.fromMillis(
+                Files.getLastModifiedTime(file).toMillis() + 2000L
+            )
+        );
+        MatcherAssert.assertThat(
+            "Modified file must be parsed again",
+            cache.xml(file).xpath("/c/text()"),
+            Matchers.contains("newer")
+        );
+        MatcherAssert.assertThat(
+            "The file must be kept only once",
+            cache.size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final XMLCache cache = new XMLCache(2);
+        final XML first = cache.xml("<x/>");
+        cache.xml("<y/>");
+        cache.xml("<x/>");
+        cache.xml("<z/>");
+        MatcherAssert.assertThat(
+            "Recently used document must be kept",
+            cache.xml("<x/>"),
+            Matchers.sameInstance(first)
+        );
+        cache.xml("<y/>");
+        MatcherAssert.assertThat(
+            "Least recently used documents must be evicted",
+            cache.evictions(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void returnsReadOnlyDocuments() {
+        Assertions.assertThrows(
+            DOMException.class,
+            () -> new XMLCache().xml("<r/>").inner().appendChild(null),
+            "Shared document must not be modifiable"
+        );
+    }
+
+    @Test
+    void worksInManyThreads() {
+        final XMLCache cache = new XMLCache(4);
+        MatcherAssert.assertThat(
+            "All threads must get the same values",
+            new Together<>(
+                thread -> cache.xml(
+                    String.format("<t>%d</t>", thread % 8)
+                ).xpath("/t/text()").get(0).equals(String.valueOf(thread % 8))
+            ).asList(),
+            Matchers.everyItem(Matchers.is(true))
+        );
+    }
+}
@@ -16,7 +16,9 @@ import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -121,6 +123,33 @@ final class XMLDocumentTest {
         );
     }
 
+    @RepeatedTest(20)
+    void readsLazyValuesInMultipleThreads() {
+        final XML xml = new XMLDocument(
+            IntStream.range(0, 500)
+                .mapToObj(idx -> String.format("<i a='v%d'>t%1$d</i>", idx))
+                .collect(Collectors.joining("", "<r>", "</r>"))
+        );
+        final List<String> texts = xml.xpath("/r/i/text()");
+        final List<String> attrs = xml.xpath("/r/i/@a");
+        MatcherAssert.assertThat(
+            "Every thread must read correct values of the same lists",
+            new Together<>(
+                thread -> {
+                    final StringBuilder wrong = new StringBuilder(0);
+                    for (int idx = texts.size() - 1; idx >= 0; --idx) {
+                        if (!texts.get(idx).equals(String.format("t%d", idx))
+                            || !attrs.get(idx).equals(String.format("v%d", idx))) {
+                            wrong.append(idx).append(' ');
+                        }
+                    }
+                    return wrong.toString();
+                }
+            ).asList(),
+            Matchers.everyItem(Matchers.equalTo(""))
+        );
+    }
+
     @RepeatedTest(60)
     void doesNotFailOnFetchingInMultipleThreadsFromDifferentDocuments() {
         Assertions.assertDoesNotThrow(
@@ -239,6 +268,40 @@ final class XMLDocumentTest {
         );
     }
 
+    @Test
+    void readsStreamInDeclaredEncoding() throws Exception {
+        MatcherAssert.assertThat(
+            "Encoding from the XML declaration must be respected",
+            new XMLDocument(
+                new ByteArrayInputStream(
+                    "<?xml version='1.0' encoding='ISO-8859-1'?><a>caf\u00e9</a>"
+                        .getBytes(StandardCharsets.ISO_8859_1)
+                )
+            ).xpath("/a/text()").get(0),
+            Matchers.equalTo("caf\u00e9")
+        );
+    }
+
+    @Test
+    void closesStreamAfterParsing() throws Exception {
+        final AtomicInteger closed = new AtomicInteger();
+        new XMLDocument(
+            new ByteArrayInputStream(
+                "<x/>".getBytes(StandardCharsets.UTF_8)
+            ) {
+                @Override
+                public void close() {
+                    closed.incrementAndGet();
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "The stream must be closed exactly once",
+            closed.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
     @Test
     void convertsItselfToXml() {
         final XML doc = new XMLDocument("<hello><a/></hello>");
@@ -733,6 +796,187 @@ final class XMLDocumentTest {
         );
     }
 
+    @Test
+    void evaluatesTypedScalars() {
+        final XML xml = new XMLDocument(
+            "<order paid='yes'><item price='2.5'/><item price='4'/><!-- x --></order>"
+        );
+        MatcherAssert.assertThat(
+            "Sum must be evaluated as a number",
+            xml.number("sum(/order/item/@price)"),
+            Matchers.equalTo(6.5)
+        );
+        MatcherAssert.assertThat(
+            "Nodes must be counted",
+            xml.count("/order/item"),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "Existing attribute must be TRUE",
+            xml.bool("/order/@paid"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Absent attribute must be FALSE",
+            xml.bool("/order/@shipped"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "String value of the first node must be returned",
+            xml.string("/order/item/@price"),
+            Matchers.equalTo("2.5")
+        );
+        MatcherAssert.assertThat(
+            "Comment must be readable as a string",
+            xml.string("/order/comment()"),
+            Matchers.equalTo(" x ")
+        );
+        MatcherAssert.assertThat(
+            "Text, which is not a number, must be NaN",
+            Double.isNaN(xml.number("/order/@paid")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void rejectsCountOfNotNodes() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new XMLDocument("<a/>").count("1 + 1"),
+            "Number must not be counted as nodes"
+        );
+    }
+
+    @Test
+    void findsFirstNodeOnly() {
+        final XML xml = new XMLDocument("<a><b>1</b><b>2</b><c x='y'/></a>");
+        MatcherAssert.assertThat(
+            "The first text must be found",
+            xml.first("/a/b/text()"),
+            Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            "Function must be evaluated",
+            xml.first("count(/a/b)"),
+            Matchers.equalTo("2")
+        );
+        MatcherAssert.assertThat(
+            "Existing attribute must be found",
+            xml.exists("/a/c/@x"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Absent element must not be found",
+            xml.exists("/a/d"),
+            Matchers.is(false)
+        );
+        Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> xml.first("/a/d/text()"),
+            "Nothing must be found by the query"
+        );
+    }
+
+    @Test
+    void makesNodesOnDemand() {
+        final List<XML> nodes = new XMLDocument("<a><b/><b/><b/></a>").nodes("/a/b");
+        MatcherAssert.assertThat(
+            "All nodes must be counted",
+            nodes,
+            Matchers.hasSize(3)
+        );
+        MatcherAssert.assertThat(
+            "The same node must be made only once",
+            nodes.get(1),
+            Matchers.sameInstance(nodes.get(1))
+        );
+    }
+
+    @Test
+    void streamsNodes() {
+        MatcherAssert.assertThat(
+            "All nodes must be streamed in document order",
+            new XMLDocument("<a><b>1</b><b>2</b><b>3</b></a>")
+                .stream("/a/b")
+                .map(node -> node.first("text()"))
+                .collect(Collectors.toList()),
+            Matchers.contains("1", "2", "3")
+        );
+    }
+
+    @Test
+    void streamsNodesInParallel() {
+        final StringBuilder text = new StringBuilder("<r>");
+        for (int idx = 0; idx < 1000; ++idx) {
+            text.append("<i>").append(idx).append("</i>");
+        }
+        final String xml = text.append("</r>").toString();
+        for (final XML doc : Arrays.asList(new XMLDocument(xml), XMLDocument.compact(xml))) {
+            MatcherAssert.assertThat(
+                "All nodes must be processed in parallel",
+                doc.stream("/r/i")
+                    .parallel()
+                    .mapToInt(node -> (int) node.number("."))
+                    .sum(),
+                Matchers.equalTo(499_500)
+            );
+        }
+    }
+
+    @Test
+    void extractsManyQueriesAtOnce() {
+        final Map<String, String> queries = new LinkedHashMap<>(2);
+        queries.put("name", "/p/name/text()");
+        queries.put("age", "number(/p/@age) + 1");
+        final Map<String, List<String>> fields = new XMLDocument(
+            "<p age='41'><name>Jeff</name></p>"
+        ).extract(queries);
+        MatcherAssert.assertThat(
+            "Text must be extracted",
+            fields.get("name"),
+            Matchers.contains("Jeff")
+        );
+        MatcherAssert.assertThat(
+            "Expression must be extracted",
+            fields.get("age"),
+            Matchers.contains("42")
+        );
+    }
+
+    @Test
+    void makesSharedCopyWithNamespaces() {
+        final XML shared = XMLDocument.shared(
+            new XMLDocument("<a xmlns='urn:a'><b>42</b></a>").registerNs("x", "urn:a")
+        );
+        MatcherAssert.assertThat(
+            "Shared copy must keep registered prefixes",
+            shared.xpath("/x:a/x:b/text()"),
+            Matchers.contains("42")
+        );
+        MatcherAssert.assertThat(
+            "Shared copy must be compact",
+            XMLDocument.shared(shared),
+            Matchers.sameInstance(shared)
+        );
+    }
+
+    @Test
+    void queriesSharedCopyInManyThreads() {
+        final XML shared = XMLDocument.shared(
+            new XMLDocument(XMLDocumentTest.large())
+        );
+        MatcherAssert.assertThat(
+            "All threads must get the same values from the shared copy",
+            new Together<>(
+                thread -> shared.xpath(
+                    String.format("/root/payment[%d]/id/text()", thread + 1)
+                ).get(0).equals("333")
+                    && shared.nodes("/root/payment").size() == 100
+            ).asList(),
+            Matchers.everyItem(Matchers.is(true))
+        );
+    }
+
     /**
      * Measure the time of execution.
      * @param run The callable to run.
@@ -0,0 +1,188 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link XMLRecords}.
+ * @since 0.36.0
+ * @checkstyle AbbreviationAsWordInNameCheck (5 lines)
+ */
+final class XMLRecordsTest {
+
+    @Test
+    void splitsFeedIntoRecords() {
+        final Iterator<XML> records = XMLDocument.split(
+            XMLRecordsTest.stream(
+                "<feed><entry id='1'><t>a</t></entry><x/><entry id='2'/></feed>"
+            ),
+            "/feed/entry"
+        );
+        final List<String> ids = new ArrayList<>(0);
+        while (records.hasNext()) {
+            ids.add(records.next().xpath("/entry/@id").get(0));
+        }
+        MatcherAssert.assertThat(
+            "All records must be found, in document order",
+            ids,
+            Matchers.contains("1", "2")
+        );
+    }
+
+    @Test
+    void keepsNamespacesInScope() {
+        final Iterator<XML> records = XMLDocument.split(
+            XMLRecordsTest.stream(
+                String.join(
+                    "",
+                    "<f:feed xmlns:f='urn:f' xmlns='urn:d' xmlns:g='urn:g'>",
+                    "<f:entry g:a='x'><id>1</id></f:entry></f:feed>"
+                )
+            ),
+            "/f:feed/f:entry",
+            new XPathContext().add("f", "urn:f")
+        );
+        final XML record = records.next();
+        MatcherAssert.assertThat(
+            "Namespaces of ancestors must be declared in the record",
+            new XMLDocument(record.toString())
+                .registerNs("f", "urn:f")
+                .registerNs("g", "urn:g")
+                .registerNs("d", "urn:d")
+                .nodes("/f:entry[@g:a='x']/d:id[.='1']"),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            "Context must be merged into the record",
+            record.xpath("/f:entry/@*"),
+            Matchers.contains("x")
+        );
+        MatcherAssert.assertThat(
+            "There must be only one record",
+            records.hasNext(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsOwnNamespaceDeclarations() {
+        MatcherAssert.assertThat(
+            "Namespace redeclared by the record must not be replaced",
+            XMLDocument.split(
+                XMLRecordsTest.stream(
+                    "<a xmlns:p='urn:outer'><b xmlns:p='urn:inner'><p:c/></b></a>"
+                ),
+                "/a/b"
+            ).next().registerNs("q", "urn:inner").nodes("/b/q:c"),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void keepsMixedContent() {
+        MatcherAssert.assertThat(
+            "Text, comments and children must be kept as they are",
+            XMLDocument.split(
+                XMLRecordsTest.stream(
+                    "<a><b>x<c/>y<!--z--><?p q?></b></a>"
+                ),
+                "/a/b"
+            ).next().nodes(
+                String.join(
+                    " and ",
+                    "/b[text()[1]='x'", "c", "text()[2]='y'",
+                    "comment()='z'", "processing-instruction('p')='q']"
+                )
+            ),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void readsStreamLazily() {
+        final InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("must not be read that far");
+            }
+        };
+        final Iterator<XML> records = XMLDocument.split(
+            new SequenceInputStream(
+                XMLRecordsTest.stream(
+                    String.format(
+                        "<feed><entry>1</entry>%s",
+                        String.join("", Collections.nCopies(10_000, " "))
+                    )
+                ),
+                broken
+            ),
+            "/feed/entry"
+        );
+        MatcherAssert.assertThat(
+            "The first record must be available before the end of stream",
+            records.next().xpath("/entry/text()"),
+            Matchers.contains("1")
+        );
+    }
+
+    @Test
+    void closesStreamAfterLastRecord() {
+        final AtomicInteger closed = new AtomicInteger();
+        final Iterator<XML> records = XMLDocument.split(
+            new FilterInputStream(XMLRecordsTest.stream("<a><b/></a>")) {
+                @Override
+                public void close() throws IOException {
+                    closed.incrementAndGet();
+                    super.close();
+                }
+            },
+            "/a/b"
+        );
+        records.next();
+        MatcherAssert.assertThat(
+            "There must be no more records",
+            records.hasNext(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "The stream must be closed",
+            closed.get(),
+            Matchers.greaterThan(0)
+        );
+    }
+
+    @Test
+    void rejectsUnsupportedPath() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> XMLDocument.split(XMLRecordsTest.stream("<a/>"), "/a/@b"),
+            "Attribute path can't be used for splitting"
+        );
+    }
+
+    /**
+     * Make a stream from a string.
+     * @param text The text
+     * @return Stream
+     */
+    private static InputStream stream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
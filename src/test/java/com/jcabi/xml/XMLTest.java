@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.xml.namespace.NamespaceContext;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Test case for default methods of {@link XML}.
+ * @since 0.36.0
+ */
+final class XMLTest {
+
+    /**
+     * Sample document.
+     */
+    private static final String DOC =
+        "<r><i p='1.5'>a</i><i p='2'>b</i><!-- c --></r>";
+
+    @Test
+    void findsByDefault() {
+        final XML xml = new XMLTest.Minimal(new XMLDocument(XMLTest.DOC));
+        MatcherAssert.assertThat(
+            "First text must be found by xpath()",
+            xml.first("/r/i/text()"),
+            Matchers.equalTo("a")
+        );
+        MatcherAssert.assertThat(
+            "Nodes must be counted by nodes()",
+            xml.count("/r/i"),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "Missing nodes must not exist",
+            xml.exists("/r/x"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "Nodes must be streamed",
+            xml.stream("/r/i").map(node -> node.first("@p"))
+                .collect(Collectors.toList()),
+            Matchers.contains("1.5", "2")
+        );
+    }
+
+    @Test
+    void evaluatesScalarsByDefault() {
+        final XML xml = new XMLTest.Minimal(new XMLDocument(XMLTest.DOC));
+        MatcherAssert.assertThat(
+            "Number of the first node must be evaluated",
+            xml.number("/r/i/@p"),
+            Matchers.equalTo(1.5)
+        );
+        MatcherAssert.assertThat(
+            "Boolean must be evaluated",
+            xml.bool("/r/i[@p='2']"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "String of any node must be evaluated",
+            xml.string("/r/comment()"),
+            Matchers.equalTo(" c ")
+        );
+        MatcherAssert.assertThat(
+            "Queries must be extracted one by one",
+            xml.extract(Collections.singletonMap("all", "/r/i/text()")).get("all"),
+            Matchers.contains("a", "b")
+        );
+    }
+
+    /**
+     * Implementation of only abstract methods, as third parties may have.
+     * @since 0.36.0
+     */
+    @SuppressWarnings("deprecation")
+    private static final class Minimal implements XML {
+
+        /**
+         * The original.
+         */
+        private final XML origin;
+
+        /**
+         * Ctor.
+         * @param xml The original
+         */
+        Minimal(final XML xml) {
+            this.origin = xml;
+        }
+
+        @Override
+        public List<String> xpath(final String query) {
+            return this.origin.xpath(query);
+        }
+
+        @Override
+        public List<XML> nodes(final String query) {
+            return this.origin.nodes(query);
+        }
+
+        @Override
+        public XML registerNs(final String prefix, final Object uri) {
+            return new XMLTest.Minimal(this.origin.registerNs(prefix, uri));
+        }
+
+        @Override
+        public XML merge(final NamespaceContext context) {
+            return new XMLTest.Minimal(this.origin.merge(context));
+        }
+
+        @Override
+        public Node node() {
+            return this.origin.node();
+        }
+
+        @Override
+        public Node inner() {
+            return this.origin.inner();
+        }
+
+        @Override
+        public Node deepCopy() {
+            return this.origin.deepCopy();
+        }
+
+        @Override
+        public Collection<SAXParseException> validate(
+            final LSResourceResolver resolver) {
+            return this.origin.validate(resolver);
+        }
+
+        @Override
+        public Collection<SAXParseException> validate(final XML xsd) {
+            return this.origin.validate(xsd);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/**
+ * JMH benchmark for {@link XPathCache}.
+ *
+ * <p>Two scenarios, both evaluating the same query with a namespace
+ * prefix on the same small document:
+ * <ul>
+ *   <li>{@link #coldEvaluation} — new {@link XPathFactory}, new
+ *   {@link XPath} and compilation of the query on every call, as
+ *   {@link XMLDocument} did it before {@link XPathCache}</li>
+ *   <li>{@link #cachedEvaluation} — compiled expression taken from
+ *   the cache of {@link XPathEngine#CLASSPATH}</li>
+ * </ul>
+ *
+ * @since 0.36.0
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class XPathCacheBenchmark {
+
+    /**
+     * The query.
+     */
+    private static final String QUERY = "/m:message/m:items/m:item[@id='7']/m:name/text()";
+
+    /**
+     * Namespace context.
+     */
+    private static final XPathContext CONTEXT = new XPathContext()
+        .add("m", "urn:message");
+
+    /**
+     * Small XML document.
+     */
+    private static final Document DOC = XPathCacheBenchmark.message(40);
+
+    /**
+     * New factory and compilation on every call.
+     * @return The result
+     * @throws XPathExpressionException If fails
+     */
+    @Benchmark
+    public final Object coldEvaluation() throws XPathExpressionException {
+        final XPath xpath = XPathFactory.newInstance().newXPath();
+        xpath.setNamespaceContext(XPathCacheBenchmark.CONTEXT);
+        return xpath.evaluate(
+            XPathCacheBenchmark.QUERY, XPathCacheBenchmark.DOC,
+            XPathConstants.STRING
+        );
+    }
+
+    /**
+     * Compiled expression from the shared cache.
+     * @return The result
+     * @throws XPathExpressionException If fails
+     */
+    @Benchmark
+    public final Object cachedEvaluation() throws XPathExpressionException {
+        return XPathEngine.CLASSPATH.cache().evaluate(
+            XPathCacheBenchmark.QUERY, XPathCacheBenchmark.CONTEXT,
+            XPathCacheBenchmark.DOC, XPathConstants.STRING
+        );
+    }
+
+    /**
+     * Build a message with the given number of items.
+     * @param total How many items
+     * @return The document
+     */
+    private static Document message(final int total) {
+        final StringBuilder xml = new StringBuilder(
+            "<message xmlns='urn:message'><items>"
+        );
+        for (int idx = 0; idx < total; ++idx) {
+            xml.append("<item id='").append(idx).append("'>")
+                .append("<name>Item number ").append(idx).append("</name>")
+                .append("</item>");
+        }
+        return (Document) new XMLDocument(
+            xml.append("</items></message>").toString()
+        ).inner();
+    }
+}
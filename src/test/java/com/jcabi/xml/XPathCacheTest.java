@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import com.yegor256.Together;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+
+/**
+ * Test case for {@link XPathCache}.
+ * @since 0.36.0
+ */
+final class XPathCacheTest {
+
+    @Test
+    void compilesQueryOnlyOnce() throws Exception {
+        final XPathCache cache = new XPathCache(8);
+        final Node doc = new XMLDocument("<a><b>7</b></a>").inner();
+        final XPathContext ctx = new XPathContext();
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                "Cached query must be evaluated correctly",
+                cache.evaluate("/a/b/text()", ctx, doc, XPathConstants.STRING),
+                Matchers.equalTo("7")
+            );
+        }
+        MatcherAssert.assertThat(
+            "The query must be compiled once and reused twice",
+            cache.toString(),
+            Matchers.equalTo("1 quer(ies) of 8, 2 hit(s), 1 miss(es)")
+        );
+    }
+
+    @Test
+    void separatesNamespaceContexts() throws Exception {
+        final XPathCache cache = new XPathCache(8);
+        final Node doc = new XMLDocument(
+            "<a xmlns='urn:one'><b>one</b><b xmlns='urn:two'>two</b></a>"
+        ).inner();
+        MatcherAssert.assertThat(
+            "First context must be used",
+            cache.evaluate(
+                "//x:b/text()", new XPathContext().add("x", "urn:one"),
+                doc, XPathConstants.STRING
+            ),
+            Matchers.equalTo("one")
+        );
+        MatcherAssert.assertThat(
+            "Second context must not get the expression of the first one",
+            cache.evaluate(
+                "//x:b/text()", new XPathContext().add("x", "urn:two"),
+                doc, XPathConstants.STRING
+            ),
+            Matchers.equalTo("two")
+        );
+    }
+
+    @Test
+    void keepsLimitedNumberOfQueries() throws Exception {
+        final XPathCache cache = new XPathCache(2);
+        final Node doc = new XMLDocument("<z/>").inner();
+        final XPathContext ctx = new XPathContext();
+        for (int idx = 0; idx < 10; ++idx) {
+            cache.evaluate(
+                String.format("count(/z) + %d", idx), ctx, doc,
+                XPathConstants.NUMBER
+            );
+        }
+        MatcherAssert.assertThat(
+            "Number of queries must be bounded",
+            cache.toString(),
+            Matchers.startsWith("2 quer(ies) of 2")
+        );
+    }
+
+    @Test
+    void rejectsBrokenQuery() {
+        Assertions.assertThrows(
+            XPathExpressionException.class,
+            () -> new XPathCache(1).evaluate(
+                "/a[", new XPathContext(), new XMLDocument("<a/>").inner(),
+                XPathConstants.NODESET
+            ),
+            "Invalid query must not be compiled"
+        );
+    }
+
+    @Test
+    void evaluatesInManyThreads() {
+        final XPathCache cache = new XPathCache(4);
+        final Node doc = new XMLDocument(
+            "<r><i>0</i><i>1</i><i>2</i><i>3</i></r>"
+        ).inner();
+        MatcherAssert.assertThat(
+            "All threads must get correct values",
+            new Together<>(
+                thread -> cache.evaluate(
+                    String.format("/r/i[%d]/text()", thread % 4 + 1),
+                    new XPathContext(), doc, XPathConstants.STRING
+                ).equals(String.valueOf(thread % 4))
+            ).asList(),
+            Matchers.everyItem(Matchers.is(true))
+        );
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of XPath engines, see {@link XPathEngine}.
+ *
+ * <p>Every query is evaluated by every engine, on the same catalog
+ * of about 500 items, either a regular or a compact DOM:
+ * <ul>
+ *   <li>{@link #trivialPath} — absolute path without predicates</li>
+ *   <li>{@link #attributePredicate} — path with an attribute
+ *   predicate</li>
+ *   <li>{@link #complexPredicate} — predicate with a function and
+ *   a comparison of numbers</li>
+ *   <li>{@link #aggregate} — sum of all prices</li>
+ * </ul>
+ *
+ * @since 0.36.0
+ * @checkstyle NonStaticMethodCheck (200 lines)
+ * @checkstyle VisibilityModifierCheck (200 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class XPathEngineBenchmark {
+
+    /**
+     * Name of the engine.
+     */
+    @Param({"JDK", "SAXON"})
+    public String engine;
+
+    /**
+     * How the document is parsed.
+     */
+    @Param({"dom", "compact"})
+    public String mode;
+
+    /**
+     * The document.
+     */
+    private XML xml;
+
+    /**
+     * Parse the document.
+     */
+    @Setup
+    public final void setup() {
+        final String text = XPathEngineBenchmark.catalog(500);
+        final XMLDocument doc;
+        if ("dom".equals(this.mode)) {
+            doc = new XMLDocument(text);
+        } else {
+            doc = (XMLDocument) XMLDocument.compact(text);
+        }
+        if ("SAXON".equals(this.engine)) {
+            this.xml = doc.with(XPathEngine.SAXON);
+        } else {
+            this.xml = doc.with(XPathEngine.JDK);
+        }
+    }
+
+    /**
+     * Path without predicates.
+     * @return Result
+     */
+    @Benchmark
+    public final List<String> trivialPath() {
+        return this.xml.xpath("/catalog/item/name/text()");
+    }
+
+    /**
+     * Path with an attribute predicate.
+     * @return Result
+     */
+    @Benchmark
+    public final String attributePredicate() {
+        return this.xml.first("/catalog/item[@id='250']/price/text()");
+    }
+
+    /**
+     * Predicate with a function and a comparison.
+     * @return Result
+     */
+    @Benchmark
+    public final int complexPredicate() {
+        return this.xml.count(
+            "/catalog/item[contains(name, '7') and number(price) > 700]"
+        );
+    }
+
+    /**
+     * Sum of all prices.
+     * @return Result
+     */
+    @Benchmark
+    public final double aggregate() {
+        return this.xml.number("sum(/catalog/item/price)");
+    }
+
+    /**
+     * Build a catalog with the given number of items.
+     * @param total How many items
+     * @return XML text
+     */
+    private static String catalog(final int total) {
+        final StringBuilder xml = new StringBuilder("<catalog>");
+        for (int idx = 0; idx < total; ++idx) {
+            xml.append("<item id='").append(idx).append("'>")
+                .append("<name>Item number ").append(idx).append("</name>")
+                .append("<price>").append(idx * 3).append(".99</price>")
+                .append("</item>");
+        }
+        return xml.append("</catalog>").toString();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link XPathEngine}.
+ * @since 0.36.0
+ */
+final class XPathEngineTest {
+
+    @AfterEach
+    void restoresEngine() {
+        XPathEngine.install(XPathEngine.CLASSPATH);
+    }
+
+    @Test
+    void evaluatesByChosenEngine() {
+        final XML xml = new XMLDocument("<a xmlns='urn:a'><b>1</b><b>2</b></a>")
+            .with(XPathEngine.JDK)
+            .registerNs("x", "urn:a");
+        MatcherAssert.assertThat(
+            "Chosen engine must evaluate the query",
+            xml.xpath("/x:a/x:b/text()"),
+            Matchers.contains("1", "2")
+        );
+        MatcherAssert.assertThat(
+            "Chosen engine must be kept by nodes",
+            xml.nodes("/x:a/x:b").get(1).number("."),
+            Matchers.equalTo(2.0)
+        );
+    }
+
+    @Test
+    void installsEngineForAllDocuments() {
+        XPathEngine.install(XPathEngine.JDK);
+        MatcherAssert.assertThat(
+            "Installed engine must be reported",
+            XPathEngine.installed(),
+            Matchers.sameInstance(XPathEngine.JDK)
+        );
+        MatcherAssert.assertThat(
+            "Installed engine must evaluate queries",
+            new XMLDocument("<r><i/><i/></r>").count("/r/i"),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void keepsCacheOfEveryEngine() {
+        MatcherAssert.assertThat(
+            "Default engine must use the cache of the installed one",
+            XPathEngine.DEFAULT.cache(),
+            Matchers.sameInstance(XPathEngine.CLASSPATH.cache())
+        );
+        MatcherAssert.assertThat(
+            "Different engines must not share caches",
+            XPathEngine.JDK.cache(),
+            Matchers.not(Matchers.sameInstance(XPathEngine.CLASSPATH.cache()))
+        );
+    }
+
+    @Test
+    void worksWithoutSaxon() throws Exception {
+        final ClassLoader loader = new XPathEngineTest.NoSaxon(
+            XPathEngineTest.class.getClassLoader()
+        );
+        Assertions.assertThrows(
+            ClassNotFoundException.class,
+            () -> loader.loadClass("net.sf.saxon.xpath.XPathFactoryImpl"),
+            "Saxon must be hidden from the test"
+        );
+        final Constructor<?> ctor = loader.loadClass(
+            XPathEngineTest.Query.class.getName()
+        ).getDeclaredConstructor();
+        ctor.setAccessible(true);
+        MatcherAssert.assertThat(
+            "JDK engine must work when Saxon is not in classpath",
+            ((Callable<?>) ctor.newInstance()).call(),
+            Matchers.equalTo(Arrays.asList("1", "2"))
+        );
+    }
+
+    @Test
+    void rejectsInstallationOfDefault() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> XPathEngine.install(XPathEngine.DEFAULT),
+            "Default engine must not be installed"
+        );
+    }
+
+    /**
+     * Query by the JDK engine, which is run by {@link NoSaxon}.
+     * @since 0.36.0
+     */
+    private static final class Query implements Callable<List<String>> {
+        @Override
+        public List<String> call() {
+            return new XMLDocument("<a><b>1</b><b>2</b></a>")
+                .with(XPathEngine.JDK)
+                .xpath("/a/b/text()");
+        }
+    }
+
+    /**
+     * Class loader, which doesn't see Saxon and loads classes
+     * of this library by itself, so that they don't see it either.
+     * @since 0.36.0
+     */
+    private static final class NoSaxon extends ClassLoader {
+
+        /**
+         * Ctor.
+         * @param parent Parent loader
+         */
+        NoSaxon(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve)
+            throws ClassNotFoundException {
+            synchronized (this.getClassLoadingLock(name)) {
+                Class<?> type = this.findLoadedClass(name);
+                if (type == null) {
+                    if (name.startsWith("net.sf.saxon.")) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    if (name.startsWith("com.jcabi.xml.")) {
+                        final byte[] bytes = this.bytes(name);
+                        type = this.defineClass(name, bytes, 0, bytes.length);
+                    } else {
+                        type = super.loadClass(name, false);
+                    }
+                }
+                if (resolve) {
+                    this.resolveClass(type);
+                }
+                return type;
+            }
+        }
+
+        /**
+         * Read bytecode of the class from the parent loader.
+         * @param name Name of the class
+         * @return Bytecode
+         * @throws ClassNotFoundException If not found
+         */
+        private byte[] bytes(final String name) throws ClassNotFoundException {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (InputStream input = this.getParent().getResourceAsStream(
+                String.format("%s.class", name.replace('.', '/'))
+            )) {
+                if (input == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] chunk = new byte[4096];
+                while (true) {
+                    final int len = input.read(chunk);
+                    if (len < 0) {
+                        break;
+                    }
+                    baos.write(chunk, 0, len);
+                }
+            } catch (final IOException ex) {
+                throw new ClassNotFoundException(name, ex);
+            }
+            return baos.toByteArray();
+        }
+    }
+}